@@ -15,6 +15,46 @@ public class AppConfig {
     // 스타일시트
     public static final String CSS_FILE = "/css/app.css";
 
+    // 저장소: 변경 저널 사용 여부 (false면 변경마다 전체 파일 저장)
+    public static final boolean JOURNAL_ENABLED = true;
+    // 저장소: 저널 레코드가 이 개수 이상 쌓이면 스냅샷으로 압축
+    public static final int JOURNAL_COMPACTION_THRESHOLD = 500;
+    // 저장소: 이 시간(ms) 안에 들어온 저장 요청은 모아서 한 번에 기록
+    public static final long SAVE_COALESCE_MILLIS = 300;
+    // 저장소: 기록에 실패하면 이 시간(ms) 후 다시 시도하고, 연속 실패마다 두 배로 늘림
+    public static final long SAVE_RETRY_INITIAL_MILLIS = 1000;
+    // 저장소: 재시도 간격의 상한(ms)
+    public static final long SAVE_RETRY_MAX_MILLIS = 60_000;
+    // 저장소: 로드 시 한 번에 목록에 추가하는 과제 수
+    public static final int LOAD_BATCH_SIZE = 1000;
+    // 저장소: tasks.json을 들여쓰기 없이 기록 (들여쓰기는 내보내기에서만 선택)
+    public static final boolean JSON_COMPACT_OUTPUT = true;
+    // 저장소: 데이터 디렉토리
+    public static final String DATA_DIR = "data";
+    // 저장소: 사용할 저장소 종류 ("sharded", "json", "binary", "memory")
+    public static final String STORAGE_BACKEND = "sharded";
+    // 저장소: 저장 내구성 ("none": fsync 없음, "file": 파일 fsync, "full": 파일 + 디렉토리 fsync)
+    public static final String SAVE_DURABILITY = "file";
+    // 저장소: 저장할 때마다 남기는 이전 파일 백업 세대 수 (tasks.json.bak, .bak.2, ...)
+    public static final int BACKUP_GENERATIONS = 3;
+    // 저장소: 메모 저장소(data/notes)에서 최근 읽은 메모를 캐시할 개수
+    public static final int NOTES_CACHE_SIZE = 32;
+    // 저장소: 메모 로그(data/notes/notes.log)가 이 크기(바이트)를 넘으면 메모 파일을 fsync하고 로그를 비움
+    public static final long NOTES_LOG_COMPACTION_BYTES = 1L << 20;
+    // 저장소: 월별 분할 저장소에서 먼저 로드할 범위 (이번 달 전후 개월 수)
+    public static final int SHARD_PRELOAD_MONTHS = 1;
+
+    // 검색: 입력이 이 시간(ms) 동안 멈추면 검색 실행
+    public static final long SEARCH_DEBOUNCE_MILLIS = 150;
+
+    // 오늘 탭: "다음에 할 일"에 표시할 과제 수
+    public static final int NEXT_TASKS_COUNT = 5;
+
+    // 통계: 과제가 이 수 이상이면 열 저장소 집계를 ForkJoin으로 나누어 처리 (나눈 조각 크기도 동일)
+    public static final int COLUMNS_PARALLEL_THRESHOLD = 65_536;
+    // 통계: 태그별 통계에 표시할 태그 수 (과제가 많은 순)
+    public static final int STATS_TAG_LIMIT = 10;
+
     // 스크린샷 경로
     public static final String SCREENSHOT_DIR = "docs";
     public static final String SCREENSHOT_MAIN = SCREENSHOT_DIR + "/screen_main.png";
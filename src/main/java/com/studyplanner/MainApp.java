@@ -23,11 +23,6 @@ public class MainApp extends Application {
             primaryStage.setMinWidth(1000);
             primaryStage.setMinHeight(700);
 
-            // 종료 시 데이터 저장
-            primaryStage.setOnCloseRequest(event -> {
-                mainController.onClose();
-            });
-
             // Stage 표시
             primaryStage.show();
 
@@ -40,6 +35,17 @@ public class MainApp extends Application {
         }
     }
 
+    /**
+     * 종료 시 데이터 저장
+     * 창 닫기와 메뉴의 Platform.exit() 모두 이 경로를 거침
+     */
+    @Override
+    public void stop() {
+        if (mainController != null) {
+            mainController.onClose();
+        }
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
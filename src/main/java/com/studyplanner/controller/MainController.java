@@ -3,13 +3,16 @@ package com.studyplanner.controller;
 import com.studyplanner.AppConfig;
 import com.studyplanner.model.Task;
 import com.studyplanner.service.PomodoroService;
-import com.studyplanner.service.StorageService;
+import com.studyplanner.service.StorageBackend;
+import com.studyplanner.service.StorageBackends;
 import com.studyplanner.service.TaskService;
+import com.studyplanner.service.TaskStatistics;
 import com.studyplanner.util.FxUtil;
 import com.studyplanner.util.TimeUtil;
 import com.studyplanner.view.CalendarView;
 import com.studyplanner.view.TaskTableView;
 import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -18,12 +21,17 @@ import javafx.scene.image.WritableImage;
 import javafx.scene.layout.*;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
+import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 
+import java.io.File;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * 메인 컨트롤러
@@ -59,13 +67,16 @@ public class MainController {
     private Label todayTasksLabel;
     private Label overdueTasksLabel;
     private ProgressBar completionProgress;
+    private Label priorityStatsLabel;
+    private Label tagStatsLabel;
+    private ChangeListener<Number> groupStatsListener;
 
     public MainController(Stage primaryStage) {
         this.primaryStage = primaryStage;
 
         // 서비스 초기화
-        StorageService storageService = new StorageService();
-        this.taskService = new TaskService(storageService);
+        StorageBackend storageBackend = StorageBackends.createDefault();
+        this.taskService = new TaskService(storageBackend);
         this.pomodoroService = new PomodoroService();
 
         // UI 구성
@@ -105,7 +116,7 @@ public class MainController {
 
         // 검색 필드
         searchField = new TextField();
-        searchField.setPromptText("과제 검색 (제목, 태그)");
+        searchField.setPromptText("과제 검색 (제목, 태그, tag:수학 due<2026-11-01 -done)");
         searchField.setPrefWidth(250);
 
         // 과제 추가 버튼
@@ -180,12 +191,44 @@ public class MainController {
         // 오늘 필터 적용
         taskService.filterToday();
 
-        vbox.getChildren().addAll(header, taskTableView);
+        // 다음에 할 일 (긴급도 순, 전체 정렬 없이 유지되는 목록)
+        Label nextHeader = new Label("다음에 할 일");
+        nextHeader.setFont(Font.font("System", FontWeight.BOLD, 16));
+
+        ListView<Task> nextTaskList = new ListView<>(taskService.getNextTasks());
+        nextTaskList.setPrefHeight(150);
+        nextTaskList.setPlaceholder(new Label("남은 과제가 없습니다."));
+        nextTaskList.setCellFactory(list -> new ListCell<Task>() {
+            @Override
+            protected void updateItem(Task task, boolean empty) {
+                super.updateItem(task, empty);
+
+                if (empty || task == null) {
+                    setText(null);
+                } else {
+                    setText(String.format("[%s] %s (%s)", task.getPriority(), task.getTitle(),
+                            formatDaysLeft(task.getDueDate())));
+                }
+            }
+        });
+
+        vbox.getChildren().addAll(header, taskTableView, nextHeader, nextTaskList);
         VBox.setVgrow(taskTableView, Priority.ALWAYS);
 
         return vbox;
     }
 
+    /**
+     * 마감까지 남은 일수 표시 (D-3, D-day, D+2)
+     */
+    private String formatDaysLeft(LocalDate dueDate) {
+        long days = ChronoUnit.DAYS.between(taskService.getClock().today(), dueDate);
+        if (days == 0) {
+            return "D-day";
+        }
+        return days > 0 ? "D-" + days : "D+" + (-days);
+    }
+
     /**
      * 전체 과제 뷰 생성
      */
@@ -223,12 +266,9 @@ public class MainController {
 
         calendarView = new CalendarView();
 
-        // 과제가 있는 날짜 하이라이트
-        List<LocalDate> taskDates = taskService.getTasks().stream()
-                .map(Task::getDueDate)
-                .distinct()
-                .collect(Collectors.toList());
-        calendarView.setHighlightedDates(taskDates);
+        // 과제가 있는 날짜 하이라이트 (표시 중인 월만 마감일 색인에서 조회)
+        calendarView.setHighlightProvider(yearMonth ->
+                taskService.getDueDatesBetween(yearMonth.atDay(1), yearMonth.atEndOfMonth()));
 
         // 날짜 클릭 시 해당 날짜 과제 필터
         calendarView.setOnDateClick(date -> {
@@ -301,10 +341,22 @@ public class MainController {
         Label sessionLabel = new Label("포모도로 세션: " + pomodoroService.getSessionCount());
         sessionLabel.setFont(Font.font("System", 14));
 
-        // 통계 업데이트
-        updateStatistics();
+        // 우선순위별/태그별 통계 (과제 변경 시 자동 갱신)
+        priorityStatsLabel = new Label();
+        priorityStatsLabel.setFont(Font.font("System", 14));
+        tagStatsLabel = new Label();
+        tagStatsLabel.setFont(Font.font("System", 14));
+        tagStatsLabel.setWrapText(true);
+
+        // 앞으로 7일 마감 부하 (탭을 열 때 집계)
+        Label weekLoadLabel = new Label(formatWeekLoad());
+        weekLoadLabel.setFont(Font.font("System", 14));
 
-        vbox.getChildren().addAll(header, statsGrid, progressLabel, completionProgress, percentLabel, sessionLabel);
+        // 통계 바인딩 (과제 변경 시 자동 갱신)
+        bindStatistics();
+
+        vbox.getChildren().addAll(header, statsGrid, progressLabel, completionProgress, percentLabel, sessionLabel,
+                priorityStatsLabel, tagStatsLabel, weekLoadLabel);
 
         // 완료율 바인딩
         completionProgress.progressProperty().addListener((obs, oldVal, newVal) -> {
@@ -314,6 +366,49 @@ public class MainController {
         return vbox;
     }
 
+    /**
+     * 우선순위별/태그별 통계 문자열 갱신
+     */
+    private void refreshGroupStatistics() {
+        StringBuilder priorityText = new StringBuilder("우선순위별:");
+        for (com.studyplanner.model.Priority priority : com.studyplanner.model.Priority.values()) {
+            TaskStatistics.Counts counts = taskService.getPriorityStatistics().get(priority);
+            if (counts != null) {
+                priorityText.append("  ").append(formatGroup(priority.getDisplayName(), counts));
+            }
+        }
+        priorityStatsLabel.setText(priorityText.toString());
+
+        // 과제가 많은 태그부터 표시
+        List<Map.Entry<String, TaskStatistics.Counts>> tags = new ArrayList<>(taskService.getTagStatistics().entrySet());
+        tags.sort(Comparator.comparingInt((Map.Entry<String, TaskStatistics.Counts> entry) -> -entry.getValue().getTotal())
+                .thenComparing(Map.Entry::getKey));
+        StringBuilder tagText = new StringBuilder("태그별:");
+        for (int i = 0; i < Math.min(tags.size(), AppConfig.STATS_TAG_LIMIT); i++) {
+            tagText.append("  ").append(formatGroup("#" + tags.get(i).getKey(), tags.get(i).getValue()));
+        }
+        tagStatsLabel.setText(tagText.toString());
+    }
+
+    private static String formatGroup(String name, TaskStatistics.Counts counts) {
+        String text = String.format("%s %d/%d (%.0f%%)", name, counts.getCompleted(), counts.getTotal(),
+                counts.getCompletionRate() * 100);
+        return counts.getOverdue() > 0 ? text + " 연체 " + counts.getOverdue() : text;
+    }
+
+    /**
+     * 오늘부터 7일간 날짜별 마감 과제 수 문자열
+     */
+    private String formatWeekLoad() {
+        LocalDate today = taskService.getClock().today();
+        int[] load = taskService.getLoadPerDay(today, 7);
+        StringBuilder text = new StringBuilder("7일간 마감:");
+        for (int day = 0; day < load.length; day++) {
+            text.append(' ').append(today.plusDays(day).getDayOfMonth()).append("일 ").append(load[day]);
+        }
+        return text.toString();
+    }
+
     /**
      * 통계 박스 생성 헬퍼
      */
@@ -333,14 +428,23 @@ public class MainController {
     }
 
     /**
-     * 통계 업데이트
+     * 통계 바인딩
      */
-    private void updateStatistics() {
-        totalTasksLabel.setText(String.valueOf(taskService.getTotalTaskCount()));
-        completedTasksLabel.setText(String.valueOf(taskService.getCompletedTaskCount()));
-        todayTasksLabel.setText(String.valueOf(taskService.getTodayTaskCount()));
-        overdueTasksLabel.setText(String.valueOf(taskService.getOverdueTaskCount()));
-        completionProgress.setProgress(taskService.getCompletionRate());
+    private void bindStatistics() {
+        totalTasksLabel.textProperty().bind(taskService.totalTaskCountProperty().asString());
+        completedTasksLabel.textProperty().bind(taskService.completedTaskCountProperty().asString());
+        todayTasksLabel.textProperty().bind(taskService.todayTaskCountProperty().asString());
+        overdueTasksLabel.textProperty().bind(taskService.overdueTaskCountProperty().asString());
+        completionProgress.progressProperty().bind(taskService.completionRateProperty());
+
+        // 그룹별 통계는 맵 항목마다가 아니라 반영(publish)마다 한 번만 갱신
+        // 탭을 다시 열면 이전 화면의 리스너는 제거
+        if (groupStatsListener != null) {
+            taskService.groupStatisticsRevisionProperty().removeListener(groupStatsListener);
+        }
+        groupStatsListener = (obs, oldVal, newVal) -> refreshGroupStatistics();
+        taskService.groupStatisticsRevisionProperty().addListener(groupStatsListener);
+        refreshGroupStatistics();
     }
 
     /**
@@ -364,17 +468,62 @@ public class MainController {
             confirm.setContentText("이 작업은 되돌릴 수 없습니다.");
             Optional<ButtonType> result = confirm.showAndWait();
             if (result.isPresent() && result.get() == ButtonType.OK) {
-                taskService.getTasks().clear();
-                taskService.saveTasks();
+                taskService.clearAll();
                 FxUtil.showInfo("완료", "모든 과제가 삭제되었습니다.");
             }
         });
 
-        vbox.getChildren().addAll(header, info, clearDataButton);
+        Button exportButton = new Button("JSON으로 내보내기");
+        exportButton.setOnAction(e -> handleExport());
+        Button importButton = new Button("JSON에서 가져오기");
+        importButton.setOnAction(e -> handleImport());
+
+        vbox.getChildren().addAll(header, info, exportButton, importButton, clearDataButton);
 
         return vbox;
     }
 
+    /**
+     * 과제 목록을 들여쓰기한 JSON 파일로 내보내기
+     */
+    private void handleExport() {
+        FileChooser chooser = createJsonChooser("과제 내보내기");
+        chooser.setInitialFileName("tasks-export.json");
+        File file = chooser.showSaveDialog(primaryStage);
+        if (file == null) {
+            return;
+        }
+        try {
+            taskService.exportTasks(file.toPath(), true);
+            FxUtil.showInfo("완료", "과제를 내보냈습니다.");
+        } catch (RuntimeException e) {
+            FxUtil.showError("오류", e.getMessage());
+        }
+    }
+
+    /**
+     * JSON 파일의 과제 가져오기 (이미 있는 과제는 건너뜀)
+     */
+    private void handleImport() {
+        File file = createJsonChooser("과제 가져오기").showOpenDialog(primaryStage);
+        if (file == null) {
+            return;
+        }
+        try {
+            int count = taskService.importTasks(file.toPath());
+            FxUtil.showInfo("완료", count + "개의 과제를 가져왔습니다.");
+        } catch (RuntimeException e) {
+            FxUtil.showError("오류", e.getMessage());
+        }
+    }
+
+    private static FileChooser createJsonChooser(String title) {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle(title);
+        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("JSON 파일", "*.json"));
+        return chooser;
+    }
+
     /**
      * 포모도로 타이머 패널 생성
      */
@@ -423,9 +572,7 @@ public class MainController {
      */
     private void setupEventHandlers() {
         // 검색 필드
-        searchField.textProperty().addListener((obs, oldVal, newVal) -> {
-            taskService.search(newVal);
-        });
+        searchField.textProperty().addListener((obs, oldVal, newVal) -> taskService.searchOrFilter(newVal));
 
         // 테이블 더블클릭
         if (taskTableView != null) {
@@ -460,13 +607,8 @@ public class MainController {
         // 과제 목록 변경 리스너 (캘린더 업데이트용)
         taskService.getTasks().addListener((javafx.collections.ListChangeListener.Change<? extends Task> c) -> {
             if (calendarView != null) {
-                List<LocalDate> taskDates = taskService.getTasks().stream()
-                        .map(Task::getDueDate)
-                        .distinct()
-                        .collect(Collectors.toList());
-                calendarView.setHighlightedDates(taskDates);
+                calendarView.refresh();
             }
-            updateStatistics();
         });
     }
 
@@ -517,7 +659,6 @@ public class MainController {
         pomodoroService.setOnFinish(() -> {
             Platform.runLater(() -> {
                 FxUtil.showInfo("포모도로 완료!", "25분 집중 시간이 완료되었습니다.\n잠시 휴식하세요!");
-                updateStatistics();
             });
         });
 
@@ -564,7 +705,6 @@ public class MainController {
         result.ifPresent(task -> {
             if (taskService.addTask(task)) {
                 FxUtil.showInfo("완료", "과제가 추가되었습니다.");
-                updateStatistics();
             } else {
                 FxUtil.showError("오류", "과제 추가에 실패했습니다.");
             }
@@ -579,7 +719,6 @@ public class MainController {
         result.ifPresent(editedTask -> {
             if (taskService.updateTask(editedTask)) {
                 FxUtil.showInfo("완료", "과제가 수정되었습니다.");
-                updateStatistics();
             } else {
                 FxUtil.showError("오류", "과제 수정에 실패했습니다.");
             }
@@ -599,7 +738,6 @@ public class MainController {
         if (result.isPresent() && result.get() == ButtonType.OK) {
             if (taskService.deleteTask(task)) {
                 FxUtil.showInfo("완료", "과제가 삭제되었습니다.");
-                updateStatistics();
             } else {
                 FxUtil.showError("오류", "과제 삭제에 실패했습니다.");
             }
@@ -676,9 +814,9 @@ public class MainController {
     }
 
     /**
-     * 종료 시 데이터 저장
+     * 종료 시 데이터 저장 (기록이 끝날 때까지 대기)
      */
     public void onClose() {
-        taskService.saveTasks();
+        taskService.close();
     }
 }
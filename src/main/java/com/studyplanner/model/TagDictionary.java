@@ -0,0 +1,135 @@
+package com.studyplanner.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태그 사전 (태그 문자열 ↔ 정수 id)
+ * 같은 태그 문자열은 모든 과제가 하나를 공유하고, 과제는 id 배열만 보관
+ * 대소문자를 구분하지 않는 비교를 위해 id마다 소문자 태그의 id(folded id)도 함께 보관
+ *
+ * UI 스레드와 저장 스레드(과제 복사본 직렬화)에서 함께 사용
+ * 조회는 잠금 없이 처리하고, 새 태그 등록만 동기화 (등록한 칸을 채운 뒤 volatile 필드로 공개)
+ *
+ * 등록한 태그는 지우지 않으므로, 과제 목록을 비우고 다시 채울 때 공유 사전을 새 사전으로 교체
+ * (이전 사전의 id를 가진 과제는 다음 태그 접근 때 새 사전으로 옮김)
+ */
+public class TagDictionary {
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * id별 태그와 folded id (배열이 차면 두 배 크기로 바꿔 공개)
+     */
+    private static final class Entries {
+        final String[] tags;
+        final int[] foldedIds;
+
+        Entries(int capacity) {
+            this.tags = new String[capacity];
+            this.foldedIds = new int[capacity];
+        }
+    }
+
+    private static volatile TagDictionary shared = new TagDictionary();
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile Entries entries = new Entries(INITIAL_CAPACITY);
+    private volatile int size;
+
+    /**
+     * 애플리케이션 전체에서 공유하는 사전
+     */
+    public static TagDictionary shared() {
+        return shared;
+    }
+
+    /**
+     * 공유 사전을 빈 사전으로 교체
+     * 사전의 id를 담은 색인이 모두 비어 있을 때(과제 목록을 비운 직후)만 호출해야 함
+     */
+    public static void reset() {
+        shared = new TagDictionary();
+    }
+
+    /**
+     * 태그의 id (처음 보는 태그면 새로 등록)
+     */
+    public int intern(String tag) {
+        Integer id = ids.get(tag);
+        return id != null ? id : register(tag);
+    }
+
+    private synchronized int register(String tag) {
+        Integer id = ids.get(tag);
+        if (id != null) {
+            return id;
+        }
+
+        // 소문자 태그를 먼저 등록 (소문자 태그는 자기 자신이 folded id)
+        String lower = tag.toLowerCase();
+        int folded = lower.equals(tag) ? -1 : intern(lower);
+
+        int newId = size;
+        Entries current = entries;
+        if (newId == current.tags.length) {
+            Entries grown = new Entries(newId * 2);
+            System.arraycopy(current.tags, 0, grown.tags, 0, newId);
+            System.arraycopy(current.foldedIds, 0, grown.foldedIds, 0, newId);
+            current = grown;
+        }
+        current.tags[newId] = tag;
+        current.foldedIds[newId] = folded < 0 ? newId : folded;
+        entries = current;
+        size = newId + 1;
+        // 칸을 채우고 공개한 뒤에 id를 내보냄
+        ids.put(tag, newId);
+        return newId;
+    }
+
+    /**
+     * 태그의 id, 등록되지 않은 태그면 -1 (사전을 늘리지 않음)
+     */
+    public int find(String tag) {
+        Integer id = ids.get(tag);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * id의 태그 문자열
+     */
+    public String tagOf(int id) {
+        checkRegistered(id);
+        return entries.tags[id];
+    }
+
+    /**
+     * 대소문자를 무시한 같은 태그의 id (소문자 태그의 id)
+     */
+    public int foldedId(int id) {
+        checkRegistered(id);
+        return entries.foldedIds[id];
+    }
+
+    /**
+     * 태그(대소문자 무시)의 folded id, 등록되지 않은 태그면 -1 (사전을 늘리지 않음)
+     */
+    public int findFolded(String tag) {
+        return find(tag.toLowerCase());
+    }
+
+    /**
+     * 등록된 태그 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * size를 entries보다 먼저 읽어야 id가 들어 있는 배열을 보게 됨
+     */
+    private void checkRegistered(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("등록되지 않은 태그 id입니다: " + id);
+        }
+    }
+}
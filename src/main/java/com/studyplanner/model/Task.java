@@ -1,29 +1,69 @@
 package com.studyplanner.model;
 
 import javafx.beans.property.*;
+import javafx.beans.value.ChangeListener;
 import java.time.LocalDate;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.UUID;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
 
 /**
  * 과제 데이터 모델
  * JavaFX Property를 사용하여 UI 바인딩 지원
+ *
+ * 값은 일반 필드에 보관하고, Property는 xxxProperty()를 처음 호출할 때 만들어 필드 대신 값을 보관
+ * (화면에 표시되지 않는 과제는 Property 객체를 만들지 않음)
  */
 public class Task {
-    private final StringProperty id;
-    private final StringProperty title;
-    private final ObjectProperty<LocalDate> dueDate;
-    private final ObjectProperty<Priority> priority;
-    private final StringProperty notes;
-    private final List<String> tags;
-    private final BooleanProperty completed;
+    private final TaskId id;
+    private String title;
+    private LocalDate dueDate;
+    private Priority priority;
+    private String notes;
+    // 태그는 공유 사전(TagDictionary)의 id 배열로 보관 (배열은 바꾸지 않고 통째로 교체)
+    private int[] tagIds;
+    // tagIds가 속한 사전 (공유 사전이 교체되면 다음 태그 접근 때 현재 사전으로 옮김)
+    private TagDictionary tagDictionary;
+    // 태그의 folded id로 만든 64비트 서명 (태그 비교 전에 비트 연산으로 빠르게 배제)
+    private long tagSignature;
+    private boolean completed;
+
+    // 지연 생성된 Property (null이면 위의 필드가 현재 값)
+    private StringProperty idProperty;
+    private StringProperty titleProperty;
+    private ObjectProperty<LocalDate> dueDateProperty;
+    private ObjectProperty<Priority> priorityProperty;
+    private StringProperty notesProperty;
+    private BooleanProperty completedProperty;
+    // Property를 통한 변경(UI 바인딩 포함) 감지용 리스너 (Property를 처음 만들 때 생성)
+    private ChangeListener<Object> tracker;
+
+    // 변경 추적: 값이 바뀔 때마다 증가하는 버전과 변경 알림 대상
+    private long version;
+    private Consumer<Task> changeListener;
+
+    // 메모 지연 로드: null이 아니면 메모를 아직 읽지 않은 상태
+    private NotesLoader notesLoader;
+    private boolean loadingNotes;
 
     /**
-     * 새 과제 생성 (UUID 자동 생성)
+     * 과제와 따로 보관된 메모를 읽어오는 저장소
+     */
+    @FunctionalInterface
+    public interface NotesLoader {
+        String loadNotes(String taskId);
+    }
+
+    /**
+     * 새 과제 생성 (UUID 형식 id 자동 생성)
      */
     public Task(String title, LocalDate dueDate, Priority priority) {
-        this(UUID.randomUUID().toString(), title, dueDate, priority, "", new ArrayList<>(), false);
+        this(TaskId.random(), title, dueDate, priority, "", Collections.emptyList(), false);
     }
 
     /**
@@ -31,169 +71,468 @@ public class Task {
      */
     public Task(String id, String title, LocalDate dueDate, Priority priority,
             String notes, List<String> tags, boolean completed) {
-        this.id = new SimpleStringProperty(id);
-        this.title = new SimpleStringProperty(title);
-        this.dueDate = new SimpleObjectProperty<>(dueDate);
-        this.priority = new SimpleObjectProperty<>(priority);
-        this.notes = new SimpleStringProperty(notes);
-        this.tags = new ArrayList<>(tags);
-        this.completed = new SimpleBooleanProperty(completed);
+        this(TaskId.parse(id), title, dueDate, priority, notes, tags, completed);
+    }
+
+    /**
+     * 완전한 과제 생성 (id를 이미 변환한 경우)
+     */
+    public Task(TaskId id, String title, LocalDate dueDate, Priority priority,
+            String notes, List<String> tags, boolean completed) {
+        this.id = id;
+        this.title = title;
+        this.dueDate = dueDate;
+        this.priority = priority;
+        this.notes = notes;
+        TagDictionary dictionary = TagDictionary.shared();
+        this.tagIds = internTags(dictionary, tags);
+        this.tagDictionary = dictionary;
+        this.tagSignature = signatureOf(dictionary, tagIds);
+        this.completed = completed;
+    }
+
+    /**
+     * 변경 버전 (속성이나 태그가 바뀔 때마다 증가)
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 변경 알림 대상 설정 (과제를 관리하는 서비스에서 사용, null이면 해제)
+     */
+    public void setChangeListener(Consumer<Task> listener) {
+        this.changeListener = listener;
+    }
+
+    private void markChanged() {
+        version++;
+        if (changeListener != null) {
+            changeListener.accept(this);
+        }
+    }
+
+    /**
+     * 새로 만든 Property에 변경 감지 연결 (UI에서 직접 바인딩으로 수정한 경우 포함)
+     */
+    private <P extends Property<?>> P track(P property) {
+        if (tracker == null) {
+            tracker = (obs, oldValue, newValue) -> {
+                if (!loadingNotes) {
+                    markChanged();
+                }
+            };
+        }
+        property.addListener(tracker);
+        return property;
     }
 
     // ID
+    /**
+     * id 문자열 (저장/내보내기용, 호출할 때마다 새로 만듦)
+     */
     public String getId() {
-        return id.get();
+        return id.toString();
     }
 
-    public StringProperty idProperty() {
+    /**
+     * id (색인/조회용)
+     */
+    public TaskId getTaskId() {
         return id;
     }
 
+    public StringProperty idProperty() {
+        if (idProperty == null) {
+            idProperty = new SimpleStringProperty(id.toString());
+        }
+        return idProperty;
+    }
+
     // Title
     public String getTitle() {
-        return title.get();
+        return titleProperty != null ? titleProperty.get() : title;
     }
 
     public void setTitle(String value) {
-        title.set(value);
+        if (titleProperty != null) {
+            titleProperty.set(value);
+        } else if (!Objects.equals(title, value)) {
+            title = value;
+            markChanged();
+        }
     }
 
     public StringProperty titleProperty() {
-        return title;
+        if (titleProperty == null) {
+            titleProperty = track(new SimpleStringProperty(title));
+        }
+        return titleProperty;
     }
 
     // Due Date
     public LocalDate getDueDate() {
-        return dueDate.get();
+        return dueDateProperty != null ? dueDateProperty.get() : dueDate;
     }
 
     public void setDueDate(LocalDate value) {
-        dueDate.set(value);
+        if (dueDateProperty != null) {
+            dueDateProperty.set(value);
+        } else if (!Objects.equals(dueDate, value)) {
+            dueDate = value;
+            markChanged();
+        }
     }
 
     public ObjectProperty<LocalDate> dueDateProperty() {
-        return dueDate;
+        if (dueDateProperty == null) {
+            dueDateProperty = track(new SimpleObjectProperty<>(dueDate));
+        }
+        return dueDateProperty;
     }
 
     // Priority
     public Priority getPriority() {
-        return priority.get();
+        return priorityProperty != null ? priorityProperty.get() : priority;
     }
 
     public void setPriority(Priority value) {
-        priority.set(value);
+        if (priorityProperty != null) {
+            priorityProperty.set(value);
+        } else if (priority != value) {
+            priority = value;
+            markChanged();
+        }
     }
 
     public ObjectProperty<Priority> priorityProperty() {
-        return priority;
+        if (priorityProperty == null) {
+            priorityProperty = track(new SimpleObjectProperty<>(priority));
+        }
+        return priorityProperty;
     }
 
-    // Notes
+    // Notes (지연 로드)
     public String getNotes() {
-        return notes.get();
+        ensureNotesLoaded();
+        return currentNotes();
     }
 
     public void setNotes(String value) {
-        notes.set(value);
+        notesLoader = null;
+        if (notesProperty != null) {
+            notesProperty.set(value);
+        } else if (!Objects.equals(notes, value)) {
+            notes = value;
+            markChanged();
+        }
     }
 
     public StringProperty notesProperty() {
-        return notes;
+        ensureNotesLoaded();
+        if (notesProperty == null) {
+            notesProperty = track(new SimpleStringProperty(notes));
+        }
+        return notesProperty;
+    }
+
+    private String currentNotes() {
+        return notesProperty != null ? notesProperty.get() : notes;
+    }
+
+    /**
+     * 메모를 처음 읽을 때 loader에서 가져오도록 설정 (저장소에서 로드할 때 사용)
+     */
+    public void setNotesLoader(NotesLoader loader) {
+        this.notesLoader = loader;
+    }
+
+    /**
+     * 메모를 이미 읽었거나 직접 설정했는지 확인
+     * false면 메모가 저장소에 있는 내용 그대로이므로 다시 저장할 필요 없음
+     */
+    public boolean isNotesLoaded() {
+        return notesLoader == null;
+    }
+
+    private void ensureNotesLoaded() {
+        if (notesLoader == null) {
+            return;
+        }
+        NotesLoader loader = notesLoader;
+        notesLoader = null;
+
+        // 저장된 값을 읽는 것이므로 변경으로 기록하지 않음
+        loadingNotes = true;
+        try {
+            String loaded = loader.loadNotes(id.toString());
+            String value = loaded == null ? "" : loaded;
+            if (notesProperty != null) {
+                notesProperty.set(value);
+            } else {
+                notes = value;
+            }
+        } finally {
+            loadingNotes = false;
+        }
     }
 
     // Tags
+
+    /**
+     * 태그 목록 (복사하지 않는 읽기 전용 뷰)
+     */
     public List<String> getTags() {
-        return new ArrayList<>(tags);
+        return new TagList(tagDictionary, tagIds);
     }
 
     public void setTags(List<String> value) {
-        tags.clear();
-        tags.addAll(value);
+        int[] current = currentTagIds();
+        int[] ids = internTags(tagDictionary, value);
+        if (Arrays.equals(current, ids)) {
+            return;
+        }
+        replaceTags(ids);
     }
 
     public void addTag(String tag) {
-        if (!tags.contains(tag)) {
-            tags.add(tag);
+        currentTagIds();
+        int id = tagDictionary.intern(tag);
+        if (indexOfTag(id) < 0) {
+            int[] ids = Arrays.copyOf(tagIds, tagIds.length + 1);
+            ids[tagIds.length] = id;
+            replaceTags(ids);
         }
     }
 
     public void removeTag(String tag) {
-        tags.remove(tag);
+        // 없는 태그는 사전에 등록하지 않음
+        currentTagIds();
+        int id = tagDictionary.find(tag);
+        int index = id < 0 ? -1 : indexOfTag(id);
+        if (index >= 0) {
+            int[] ids = new int[tagIds.length - 1];
+            System.arraycopy(tagIds, 0, ids, 0, index);
+            System.arraycopy(tagIds, index + 1, ids, index, ids.length - index);
+            replaceTags(ids);
+        }
+    }
+
+    /**
+     * 태그가 있는지 확인 (대소문자 무시)
+     */
+    public boolean hasTag(String tag) {
+        int folded = TagDictionary.shared().findFolded(tag);
+        return folded >= 0 && hasFoldedTag(folded);
+    }
+
+    /**
+     * folded id(TagDictionary.findFolded)의 태그가 있는지 확인
+     * 서명 비트가 없으면 배열을 보지 않고 바로 false
+     */
+    public boolean hasFoldedTag(int foldedId) {
+        int[] ids = currentTagIds();
+        if ((tagSignature & signatureBit(foldedId)) == 0) {
+            return false;
+        }
+        for (int id : ids) {
+            if (tagDictionary.foldedId(id) == foldedId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 태그의 folded id 목록 (순서 유지, 새 배열)
+     */
+    public int[] getFoldedTagIds() {
+        int[] ids = currentTagIds();
+        int[] folded = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            folded[i] = tagDictionary.foldedId(ids[i]);
+        }
+        return folded;
+    }
+
+    /**
+     * 현재 공유 사전 기준의 태그 id 배열
+     * 사전이 교체된 뒤 처음 접근하면 태그 문자열로 새 사전의 id를 다시 받음 (변경으로 기록하지 않음)
+     */
+    private int[] currentTagIds() {
+        TagDictionary dictionary = TagDictionary.shared();
+        if (tagDictionary != dictionary) {
+            int[] ids = new int[tagIds.length];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = dictionary.intern(tagDictionary.tagOf(tagIds[i]));
+            }
+            tagIds = ids;
+            tagDictionary = dictionary;
+            tagSignature = signatureOf(dictionary, ids);
+        }
+        return tagIds;
+    }
+
+    private int indexOfTag(int id) {
+        for (int i = 0; i < tagIds.length; i++) {
+            if (tagIds[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void replaceTags(int[] ids) {
+        tagIds = ids;
+        tagSignature = signatureOf(tagDictionary, ids);
+        markChanged();
+    }
+
+    private static int[] internTags(TagDictionary dictionary, List<String> tags) {
+        int[] ids = new int[tags.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = dictionary.intern(tags.get(i));
+        }
+        return ids;
+    }
+
+    private static long signatureOf(TagDictionary dictionary, int[] ids) {
+        long signature = 0;
+        for (int id : ids) {
+            signature |= signatureBit(dictionary.foldedId(id));
+        }
+        return signature;
+    }
+
+    private static long signatureBit(int foldedId) {
+        return 1L << (foldedId & 63);
+    }
+
+    /**
+     * 태그 id 배열 위의 읽기 전용 목록
+     */
+    private static class TagList extends AbstractList<String> implements RandomAccess {
+        private final TagDictionary dictionary;
+        private final int[] ids;
+
+        TagList(TagDictionary dictionary, int[] ids) {
+            this.dictionary = dictionary;
+            this.ids = ids;
+        }
+
+        @Override
+        public String get(int index) {
+            return dictionary.tagOf(ids[index]);
+        }
+
+        @Override
+        public int size() {
+            return ids.length;
+        }
     }
 
     /**
      * 태그를 쉼표로 구분된 문자열로 반환
      */
     public String getTagsAsString() {
-        return String.join(", ", tags);
+        return String.join(", ", getTags());
     }
 
     /**
      * 쉼표로 구분된 문자열에서 태그 파싱
      */
     public void setTagsFromString(String tagsString) {
-        tags.clear();
+        List<String> parsed = new ArrayList<>();
         if (tagsString != null && !tagsString.trim().isEmpty()) {
             String[] tagArray = tagsString.split(",");
             for (String tag : tagArray) {
                 String trimmed = tag.trim();
                 if (!trimmed.isEmpty()) {
-                    tags.add(trimmed);
+                    parsed.add(trimmed);
                 }
             }
         }
+        setTags(parsed);
     }
 
     // Completed
     public boolean isCompleted() {
-        return completed.get();
+        return completedProperty != null ? completedProperty.get() : completed;
     }
 
     public void setCompleted(boolean value) {
-        completed.set(value);
+        if (completedProperty != null) {
+            completedProperty.set(value);
+        } else if (completed != value) {
+            completed = value;
+            markChanged();
+        }
     }
 
     public BooleanProperty completedProperty() {
-        return completed;
+        if (completedProperty == null) {
+            completedProperty = track(new SimpleBooleanProperty(completed));
+        }
+        return completedProperty;
+    }
+
+    /**
+     * 현재 값을 그대로 가진 복사본 생성
+     * 다른 스레드에서 저장할 때 UI에서 사용 중인 객체 대신 사용
+     */
+    public Task copy() {
+        // 아직 읽지 않은 메모는 읽지 않고 loader만 넘김
+        Task copy = new Task(id, getTitle(), getDueDate(), getPriority(),
+                isNotesLoaded() ? currentNotes() : "", Collections.emptyList(), isCompleted());
+        // 태그 배열은 바뀌지 않으므로 그대로 공유
+        copy.tagIds = tagIds;
+        copy.tagDictionary = tagDictionary;
+        copy.tagSignature = tagSignature;
+        copy.notesLoader = notesLoader;
+        copy.version = version;
+        return copy;
     }
 
     /**
      * 과제 유효성 검증
      */
     public boolean isValid() {
-        return title.get() != null && !title.get().trim().isEmpty()
-                && dueDate.get() != null
-                && priority.get() != null;
+        String title = getTitle();
+        return title != null && !title.trim().isEmpty()
+                && getDueDate() != null
+                && getPriority() != null;
     }
 
     /**
-     * 마감일이 오늘인지 확인
+     * 마감일이 today인지 확인 (오늘 날짜는 ClockService에서 한 번만 구해 전달)
      */
-    public boolean isDueToday() {
-        return dueDate.get() != null && dueDate.get().equals(LocalDate.now());
+    public boolean isDueToday(LocalDate today) {
+        LocalDate dueDate = getDueDate();
+        return dueDate != null && dueDate.equals(today);
     }
 
     /**
-     * 마감일이 과거인지 확인
+     * 마감일이 today보다 과거인지 확인
      */
-    public boolean isOverdue() {
-        return dueDate.get() != null && dueDate.get().isBefore(LocalDate.now()) && !isCompleted();
+    public boolean isOverdue(LocalDate today) {
+        LocalDate dueDate = getDueDate();
+        return dueDate != null && dueDate.isBefore(today) && !isCompleted();
     }
 
     /**
-     * 마감일이 이번 주인지 확인
+     * 마감일이 today부터 7일 안인지 확인
      */
-    public boolean isDueThisWeek() {
-        if (dueDate.get() == null)
+    public boolean isDueThisWeek(LocalDate today) {
+        LocalDate dueDate = getDueDate();
+        if (dueDate == null)
             return false;
-        LocalDate now = LocalDate.now();
-        LocalDate weekEnd = now.plusDays(7);
-        return !dueDate.get().isBefore(now) && !dueDate.get().isAfter(weekEnd);
+        LocalDate weekEnd = today.plusDays(7);
+        return !dueDate.isBefore(today) && !dueDate.isAfter(weekEnd);
     }
 
     @Override
     public String toString() {
         return String.format("Task[%s: %s, due=%s, priority=%s, completed=%s]",
-                id.get(), title.get(), dueDate.get(), priority.get(), completed.get());
+                getId(), getTitle(), getDueDate(), getPriority(), isCompleted());
     }
 }
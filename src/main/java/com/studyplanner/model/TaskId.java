@@ -0,0 +1,153 @@
+package com.studyplanner.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 과제 id (128비트)
+ * UUID 문자열 대신 long 두 개로 보관하여 해시/비교를 정수 연산으로 처리
+ * 문자열은 JSON 저장/내보내기에 필요할 때만 만듦
+ *
+ * UUID 형식이 아닌 예전 id는 문자열을 함께 보관하여 저장할 때 원래 값을 그대로 유지
+ */
+public final class TaskId {
+    private static final int UUID_LENGTH = 36;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final long high;
+    private final long low;
+    // UUID 형식이 아닌 id의 원래 문자열 (UUID 형식이면 null)
+    private final String legacy;
+
+    private TaskId(long high, long low, String legacy) {
+        this.high = high;
+        this.low = low;
+        this.legacy = legacy;
+    }
+
+    /**
+     * 새 무작위 id (UUID 버전 4와 같은 형식)
+     */
+    public static TaskId random() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long high = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long low = (random.nextLong() & ~(0xC000L << 48)) | (0x8000L << 48);
+        return new TaskId(high, low, null);
+    }
+
+    /**
+     * 상위/하위 64비트로 id 생성 (바이너리 저장소에서 읽을 때 사용)
+     */
+    public static TaskId of(long high, long low) {
+        return new TaskId(high, low, null);
+    }
+
+    /**
+     * 문자열 id 변환 (소문자 UUID 형식이면 long 두 개로, 아니면 원래 문자열 유지)
+     */
+    public static TaskId parse(String text) {
+        Objects.requireNonNull(text, "id가 없습니다.");
+        if (isCanonical(text)) {
+            return new TaskId(parseHex(text, 0, 8) << 32 | parseHex(text, 9, 13) << 16 | parseHex(text, 14, 18),
+                    parseHex(text, 19, 23) << 48 | parseHex(text, 24, 36), null);
+        }
+        UUID hashed = UUID.nameUUIDFromBytes(text.getBytes(StandardCharsets.UTF_8));
+        return new TaskId(hashed.getMostSignificantBits(), hashed.getLeastSignificantBits(), text);
+    }
+
+    /**
+     * 저장한 문자열과 다시 만든 문자열이 같아지는 형식인지 확인 (xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx, 소문자)
+     */
+    private static boolean isCanonical(String text) {
+        if (text.length() != UUID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = text.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parseHex(String text, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            value = value << 4 | Character.digit(text.charAt(i), 16);
+        }
+        return value;
+    }
+
+    /**
+     * 상위 64비트
+     */
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     * 하위 64비트
+     */
+    public long getLow() {
+        return low;
+    }
+
+    /**
+     * UUID 형식이 아닌 예전 id인지 확인 (바이너리 저장소에서는 문자열로 기록해야 함)
+     */
+    public boolean isLegacy() {
+        return legacy != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TaskId)) {
+            return false;
+        }
+        TaskId other = (TaskId) o;
+        return high == other.high && low == other.low && Objects.equals(legacy, other.legacy);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(high ^ low);
+    }
+
+    /**
+     * 저장/내보내기용 문자열 (UUID 형식 또는 예전 id)
+     */
+    @Override
+    public String toString() {
+        if (legacy != null) {
+            return legacy;
+        }
+        char[] chars = new char[UUID_LENGTH];
+        writeHex(chars, 0, high >>> 32, 8);
+        chars[8] = '-';
+        writeHex(chars, 9, high >>> 16, 4);
+        chars[13] = '-';
+        writeHex(chars, 14, high, 4);
+        chars[18] = '-';
+        writeHex(chars, 19, low >>> 48, 4);
+        chars[23] = '-';
+        writeHex(chars, 24, low, 12);
+        return new String(chars);
+    }
+
+    private static void writeHex(char[] chars, int offset, long value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            chars[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
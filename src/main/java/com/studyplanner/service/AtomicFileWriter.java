@@ -0,0 +1,203 @@
+package com.studyplanner.service;
+
+import com.studyplanner.AppConfig;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 원자적 파일 저장
+ * 같은 디렉토리의 임시 파일에 기록 → (내구성 설정에 따라) fsync → 원래 파일로 원자적 이름 변경
+ * 저장 도중 비정상 종료되어도 원래 파일은 이전 내용 그대로 남음
+ *
+ * 이전 파일은 이름 변경/하드 링크로 세대별 백업(file.bak, file.bak.2, ...)을 남김 (바이트 복사 없음)
+ */
+public class AtomicFileWriter {
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String BACKUP_SUFFIX = ".bak";
+
+    /**
+     * 내구성 수준
+     */
+    public enum Durability {
+        // fsync 없음 (원자적 교체만 보장, OS 비정상 종료 시 마지막 저장이 유실될 수 있음)
+        NONE,
+        // 교체 전에 파일 내용을 디스크에 기록
+        FILE,
+        // 파일 내용과 디렉토리 항목(이름 변경)까지 디스크에 기록
+        FULL;
+
+        /**
+         * 설정 문자열("none", "file", "full")을 변환
+         */
+        public static Durability fromConfig(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                System.err.println("알 수 없는 내구성 설정입니다: " + value + " (file 사용)");
+                return FILE;
+            }
+        }
+    }
+
+    /**
+     * 임시 파일에 내용을 기록하는 작업
+     */
+    @FunctionalInterface
+    public interface Content {
+        void writeTo(Path tempFile) throws IOException;
+    }
+
+    /**
+     * 설정(AppConfig)의 내구성 수준과 백업 세대 수로 저장
+     */
+    public static void write(Path target, Content content) throws IOException {
+        write(target, content, defaultDurability(), AppConfig.BACKUP_GENERATIONS);
+    }
+
+    /**
+     * 원자적으로 파일 저장
+     *
+     * @param backupGenerations 남길 백업 세대 수 (0이면 백업 없음)
+     */
+    public static void write(Path target, Content content, Durability durability, int backupGenerations)
+            throws IOException {
+        Path dir = target.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(dir, target.getFileName().toString(), TEMP_SUFFIX);
+        try {
+            content.writeTo(temp);
+            if (durability != Durability.NONE) {
+                forceFile(temp);
+            }
+
+            rotateBackups(target, backupGenerations);
+            moveIntoPlace(temp, target);
+
+            if (durability == Durability.FULL) {
+                forceDirectory(dir);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 대상 파일을 저장하다 비정상 종료되어 남은 임시 파일 삭제
+     * 저장소를 열 때 (아직 저장을 시작하기 전에) 호출
+     */
+    public static void deleteStaleTempFiles(Path target) {
+        deleteStaleTempFiles(target.toAbsolutePath().getParent(), target.getFileName().toString());
+    }
+
+    /**
+     * 디렉토리에서 prefix로 시작하는 남은 임시 파일 삭제 (prefix가 빈 문자열이면 모든 임시 파일)
+     */
+    public static void deleteStaleTempFiles(Path dir, String prefix) {
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (DirectoryStream<Path> temps = Files.newDirectoryStream(dir, prefix + "*" + TEMP_SUFFIX)) {
+            for (Path temp : temps) {
+                Files.deleteIfExists(temp);
+                System.out.println("남은 임시 파일을 삭제했습니다: " + temp.getFileName());
+            }
+        } catch (IOException e) {
+            System.err.println("임시 파일 정리 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 설정(AppConfig.SAVE_DURABILITY)의 내구성 수준
+     */
+    public static Durability defaultDurability() {
+        return Durability.fromConfig(AppConfig.SAVE_DURABILITY);
+    }
+
+    /**
+     * 백업 파일 경로 (1세대는 file.bak, 이후는 file.bak.2, file.bak.3 ...)
+     */
+    public static Path backupPath(Path target, int generation) {
+        String name = target.getFileName().toString() + BACKUP_SUFFIX;
+        if (generation > 1) {
+            name += "." + generation;
+        }
+        return target.resolveSibling(name);
+    }
+
+    /**
+     * 존재하는 백업 파일 목록 (최신 세대부터)
+     */
+    public static List<Path> existingBackups(Path target, int backupGenerations) {
+        List<Path> backups = new ArrayList<>();
+        for (int generation = 1; generation <= backupGenerations; generation++) {
+            Path backup = backupPath(target, generation);
+            if (Files.exists(backup)) {
+                backups.add(backup);
+            }
+        }
+        return backups;
+    }
+
+    /**
+     * 백업 세대를 한 칸씩 밀고 현재 파일을 1세대 백업으로 남김
+     */
+    private static void rotateBackups(Path target, int backupGenerations) throws IOException {
+        if (backupGenerations <= 0 || !Files.exists(target)) {
+            return;
+        }
+
+        Files.deleteIfExists(backupPath(target, backupGenerations));
+        for (int generation = backupGenerations - 1; generation >= 1; generation--) {
+            Path older = backupPath(target, generation);
+            if (Files.exists(older)) {
+                Files.move(older, backupPath(target, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        // 하드 링크를 쓰면 교체 직전까지 원래 파일이 그대로 유지됨
+        Path firstBackup = backupPath(target, 1);
+        try {
+            Files.createLink(firstBackup, target);
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            // 하드 링크를 지원하지 않는 파일 시스템: 이름 변경으로 대체 (로드 시 백업에서 복구 가능)
+            Files.move(target, firstBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 파일 내용을 디스크에 기록
+     */
+    static void forceFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * 디렉토리 항목을 디스크에 기록 (지원하지 않는 OS에서는 무시)
+     */
+    static void forceDirectory(Path dir) {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Windows 등 디렉토리를 열 수 없는 환경
+        }
+    }
+}
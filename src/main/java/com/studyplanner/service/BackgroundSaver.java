@@ -0,0 +1,200 @@
+package com.studyplanner.service;
+
+import com.studyplanner.AppConfig;
+import com.studyplanner.model.Task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 백그라운드 저장 서비스
+ * 저장 요청을 전용 쓰기 스레드로 넘기고, 일정 시간 안에 들어온 요청을 모아 한 번에 기록
+ * 전달되는 과제는 모두 복사본이어야 함 (UI 스레드의 Task를 직접 참조하지 않음)
+ * 기록에 실패하면 요청을 되돌려 두고, 연속 실패마다 두 배로 늘어나는 간격으로 다시 시도
+ */
+public class BackgroundSaver {
+
+    private final StorageBackend backend;
+    private final long coalesceMillis;
+    private final long retryInitialMillis;
+    private final long retryMaxMillis;
+    private final ScheduledExecutorService executor;
+
+    // 아직 기록되지 않은 전체 스냅샷 (가장 최근 것만 유지)
+    private List<Task> pendingSnapshot;
+    // 스냅샷 이후 요청된 변경 기록 (요청 순서 유지)
+    private List<TaskMutation> pendingMutations = new ArrayList<>();
+    private boolean flushScheduled;
+    // 다음 재시도까지의 간격 (마지막 기록이 성공했으면 0)
+    private long retryDelayMillis;
+    // 쓰기 스레드에서 마지막 기록 후 확인한 저장소의 압축 필요 여부 (UI 스레드에서 읽음)
+    private volatile boolean compactionDue;
+
+    public BackgroundSaver(StorageBackend backend, long coalesceMillis) {
+        this(backend, coalesceMillis, AppConfig.SAVE_RETRY_INITIAL_MILLIS, AppConfig.SAVE_RETRY_MAX_MILLIS);
+    }
+
+    public BackgroundSaver(StorageBackend backend, long coalesceMillis, long retryInitialMillis, long retryMaxMillis) {
+        this.backend = backend;
+        this.coalesceMillis = coalesceMillis;
+        this.retryInitialMillis = retryInitialMillis;
+        this.retryMaxMillis = retryMaxMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 전체 스냅샷 저장 요청
+     * 이전에 대기 중인 스냅샷과 변경 기록은 이 스냅샷에 포함되므로 버림
+     */
+    public synchronized void saveSnapshot(List<Task> snapshot) {
+        pendingSnapshot = snapshot;
+        pendingMutations = new ArrayList<>();
+        scheduleFlush();
+    }
+
+    /**
+     * 변경 기록 저장 요청
+     */
+    public synchronized void append(TaskMutation mutation) {
+        pendingMutations.add(mutation);
+        scheduleFlush();
+    }
+
+    /**
+     * 기록 대기 중인 전체 스냅샷이 있는지 확인
+     */
+    public synchronized boolean isSnapshotPending() {
+        return pendingSnapshot != null;
+    }
+
+    /**
+     * 저장소가 전체 저장으로 정리할 시점인지 확인 (저장소는 쓰기 스레드에서만 확인하고 결과만 공개)
+     */
+    public boolean isCompactionDue() {
+        return compactionDue;
+    }
+
+    /**
+     * 첫 요청 기준으로 대기 시간 후 한 번만 기록하도록 예약
+     */
+    private void scheduleFlush() {
+        scheduleFlush(coalesceMillis);
+    }
+
+    private void scheduleFlush(long delayMillis) {
+        if (flushScheduled || executor.isShutdown()) {
+            return;
+        }
+        flushScheduled = true;
+        executor.schedule(this::writePending, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 대기 중인 요청을 즉시 기록하고 완료될 때까지 대기
+     */
+    public void flush() {
+        if (executor.isShutdown()) {
+            writePending();
+            return;
+        }
+
+        try {
+            executor.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.err.println("저장 대기 실패: " + e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * 저장소를 사용하는 작업을 쓰기 스레드에서 실행 (기록과 같은 스레드에서 차례로 실행)
+     */
+    public void execute(Runnable task) {
+        Runnable checked = () -> {
+            task.run();
+            compactionDue = backend.isCompactionDue();
+        };
+        if (executor.isShutdown()) {
+            checked.run();
+            return;
+        }
+        executor.execute(checked);
+    }
+
+    /**
+     * 남은 요청을 기록한 뒤 쓰기 스레드 종료
+     */
+    public void shutdown() {
+        flush();
+        executor.shutdown();
+    }
+
+    /**
+     * 쓰기 스레드에서 실행: 대기 중인 스냅샷과 변경 기록을 순서대로 기록
+     */
+    private void writePending() {
+        List<Task> snapshot;
+        List<TaskMutation> mutations;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            mutations = pendingMutations;
+            pendingSnapshot = null;
+            pendingMutations = new ArrayList<>();
+            flushScheduled = false;
+        }
+
+        if (snapshot != null) {
+            try {
+                backend.saveTasks(snapshot);
+            } catch (RuntimeException e) {
+                System.err.println("백그라운드 저장 실패: " + e.getMessage());
+                requeue(snapshot, mutations);
+                return;
+            }
+        }
+
+        if (!mutations.isEmpty()) {
+            try {
+                backend.apply(mutations);
+            } catch (RuntimeException e) {
+                System.err.println("백그라운드 저장 실패: " + e.getMessage());
+                requeue(null, mutations);
+                return;
+            }
+        }
+
+        synchronized (this) {
+            retryDelayMillis = 0;
+        }
+        compactionDue = backend.isCompactionDue();
+    }
+
+    /**
+     * 기록에 실패한 요청을 대기열 앞에 되돌리고 재시도 예약
+     * (이미 예약된 저장이 있으면 그때 함께 기록)
+     */
+    private synchronized void requeue(List<Task> snapshot, List<TaskMutation> mutations) {
+        retryDelayMillis = retryDelayMillis == 0
+                ? retryInitialMillis
+                : Math.min(retryDelayMillis * 2, retryMaxMillis);
+        if (pendingSnapshot == null) {
+            // 더 최신 스냅샷이 요청되어 있으면 실패한 내용을 모두 포함하므로 되돌리지 않음
+            if (snapshot != null) {
+                pendingSnapshot = snapshot;
+            }
+            List<TaskMutation> merged = new ArrayList<>(mutations);
+            merged.addAll(pendingMutations);
+            pendingMutations = merged;
+        }
+        scheduleFlush(retryDelayMillis);
+    }
+}
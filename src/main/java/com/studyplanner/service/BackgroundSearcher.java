@@ -0,0 +1,142 @@
+package com.studyplanner.service;
+
+import com.studyplanner.model.Task;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 백그라운드 검색 서비스
+ * 입력이 멈춘 뒤(debounce) 검색 스레드에서 색인을 조회하고, 가장 최근 검색어의 결과만 UI 스레드로 전달
+ * 새 검색어가 들어오거나 취소되면 이전 검색은 실행 전이면 취소하고, 실행 중이면 결과를 버림
+ *
+ * 검색어 검색과 조건 질의는 같은 debounce/세대 번호를 사용하므로 어느 쪽이든 마지막 입력만 적용됨
+ * (조건 질의는 UI 스레드 전용 색인을 쓰므로 debounce 후 결과 스레드에서 실행)
+ */
+public class BackgroundSearcher {
+
+    /**
+     * 검색 결과 (검색 시점의 색인 버전 포함)
+     */
+    public static class Result {
+        private final String query;
+        private final List<Task> matches;
+        private final long indexVersion;
+
+        Result(String query, List<Task> matches, long indexVersion) {
+            this.query = query;
+            this.matches = matches;
+            this.indexVersion = indexVersion;
+        }
+
+        public String getQuery() {
+            return query;
+        }
+
+        public List<Task> getMatches() {
+            return matches;
+        }
+
+        public long getIndexVersion() {
+            return indexVersion;
+        }
+    }
+
+    private final SearchIndex index;
+    private final long debounceMillis;
+    private final Executor resultExecutor;
+    private final ScheduledExecutorService executor;
+
+    // 검색 요청/취소마다 증가 (이보다 오래된 검색의 결과는 버림)
+    private final AtomicLong generation = new AtomicLong();
+    private ScheduledFuture<?> pending;
+
+    /**
+     * @param resultExecutor 결과를 전달할 스레드 (보통 Platform::runLater)
+     */
+    public BackgroundSearcher(SearchIndex index, long debounceMillis, Executor resultExecutor) {
+        this.index = index;
+        this.debounceMillis = debounceMillis;
+        this.resultExecutor = resultExecutor;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 검색 요청 (이전 요청은 취소)
+     *
+     * @param query 소문자 검색어
+     */
+    public synchronized void submit(String query, Consumer<Result> onResult) {
+        long requested = cancel();
+        if (executor.isShutdown()) {
+            return;
+        }
+        pending = executor.schedule(() -> run(requested, query, onResult), debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 입력이 멈춘 뒤 결과 스레드에서 action 실행 (이전 요청은 취소)
+     */
+    public synchronized void submitOnResultThread(Runnable action) {
+        long requested = cancel();
+        if (executor.isShutdown()) {
+            return;
+        }
+        pending = executor.schedule(() -> resultExecutor.execute(() -> {
+            if (generation.get() == requested) {
+                action.run();
+            }
+        }), debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 대기 중이거나 실행 중인 검색 취소
+     *
+     * @return 취소 이후의 세대 번호
+     */
+    public synchronized long cancel() {
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+        return generation.incrementAndGet();
+    }
+
+    /**
+     * 검색 스레드 종료
+     */
+    public void shutdown() {
+        cancel();
+        executor.shutdown();
+    }
+
+    /**
+     * 검색 스레드에서 실행
+     */
+    private void run(long requested, String query, Consumer<Result> onResult) {
+        if (generation.get() != requested) {
+            return;
+        }
+
+        Result result = index.searchSnapshot(query);
+        if (generation.get() != requested) {
+            return;
+        }
+        resultExecutor.execute(() -> {
+            // 전달 대기 중에 새 요청이 들어왔으면 적용하지 않음
+            if (generation.get() == requested) {
+                onResult.accept(result);
+            }
+        });
+    }
+}
@@ -0,0 +1,327 @@
+package com.studyplanner.service;
+
+import com.studyplanner.model.Priority;
+import com.studyplanner.model.Task;
+import com.studyplanner.model.TaskId;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 바이너리 과제 스냅샷 (tasks.bin)
+ *
+ * 파일 구조 (모든 정수는 big-endian):
+ * <pre>
+ * [헤더 32바이트]
+ *   magic(4) version(2) reserved(2) recordCount(4) stringCount(4)
+ *   stringTableOffset(4) recordIndexOffset(4) recordDataOffset(4) reserved(4)
+ * [문자열 테이블]  (stringCount + 1)개의 시작 오프셋 + UTF-8 바이트 (중복 문자열은 한 번만 기록)
+ * [레코드 인덱스]  recordCount개의 레코드 시작 오프셋
+ * [레코드 데이터]  idHigh(8) idLow(8) idRef(4) titleRef(4) notesRef(4) epochDay(4) priority(1)
+ *                  completed(1) tagCount(2) tagRef(4) * tagCount
+ * </pre>
+ * id는 128비트 그대로 기록하고, UUID 형식이 아닌 예전 id만 idRef로 문자열 테이블에 기록
+ * (버전 1 파일은 idHigh/idLow 없이 idRef만 있음, 읽기만 지원)
+ * notesRef가 EXTERNAL_REF이면 메모는 NoteStore에 따로 보관되어 있음
+ * 읽을 때는 파일을 메모리 매핑하고, 레코드와 문자열은 요청될 때만 변환 (시작 시 파일 전체를 읽지 않음)
+ * 다 읽은 뒤에는 close로 매핑을 바로 해제해야 tasks.bin을 교체할 수 있음 (Windows는 매핑된 파일을 바꿀 수 없음)
+ */
+public class BinarySnapshot implements AutoCloseable {
+    private static final int MAGIC = 0x53504231; // "SPB1"
+    private static final short VERSION = 2;
+    private static final short VERSION_STRING_IDS = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int RECORD_FIXED_SIZE = 36;
+    private static final int ID_BYTES = 16;
+
+    // null 값 표시
+    private static final int NULL_REF = -1;
+    private static final int EXTERNAL_REF = -2;
+    private static final int NULL_DATE = Integer.MIN_VALUE;
+    private static final byte NULL_PRIORITY = -1;
+
+    // 매핑된 파일 (close 후에는 null)
+    private ByteBuffer buffer;
+    private final int recordCount;
+    private final int stringCount;
+    private final int stringTableOffset;
+    private final int recordIndexOffset;
+    // 디코딩한 문자열 캐시 (태그처럼 반복되는 문자열은 한 번만 변환)
+    private final String[] stringCache;
+    // 따로 보관된 메모를 읽을 저장소 (없으면 빈 메모)
+    private final Task.NotesLoader externalNotes;
+    // 레코드 앞의 128비트 id 크기 (버전 1은 0)
+    private final int idBytes;
+
+    private BinarySnapshot(ByteBuffer buffer, Task.NotesLoader externalNotes) throws IOException {
+        this.buffer = buffer;
+        this.externalNotes = externalNotes;
+
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("바이너리 스냅샷 형식이 아닙니다.");
+        }
+        short version = buffer.getShort(4);
+        if (version != VERSION && version != VERSION_STRING_IDS) {
+            throw new IOException("지원하지 않는 스냅샷 버전입니다: " + version);
+        }
+        this.idBytes = version == VERSION ? ID_BYTES : 0;
+
+        this.recordCount = buffer.getInt(8);
+        this.stringCount = buffer.getInt(12);
+        this.stringTableOffset = buffer.getInt(16);
+        this.recordIndexOffset = buffer.getInt(20);
+        this.stringCache = new String[stringCount];
+    }
+
+    /**
+     * 스냅샷 파일을 메모리 매핑하여 열기
+     * 헤더만 검증하며 레코드는 get 호출 시 변환
+     */
+    public static BinarySnapshot open(Path path) throws IOException {
+        return open(path, null);
+    }
+
+    /**
+     * 스냅샷 파일을 메모리 매핑하여 열기 (따로 보관된 메모는 externalNotes에서 지연 로드)
+     * 채널은 바로 닫고, 매핑은 close에서 해제
+     */
+    public static BinarySnapshot open(Path path, Task.NotesLoader externalNotes) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        try {
+            return new BinarySnapshot(buffer, externalNotes);
+        } catch (IOException e) {
+            unmap(buffer);
+            throw e;
+        }
+    }
+
+    /**
+     * 매핑 해제 (이후 get은 사용할 수 없음, 이미 변환한 Task는 그대로 사용 가능)
+     */
+    @Override
+    public void close() {
+        if (buffer != null) {
+            ByteBuffer mapped = buffer;
+            buffer = null;
+            unmap(mapped);
+        }
+    }
+
+    /**
+     * 매핑을 GC를 기다리지 않고 바로 해제 (해제할 수 없는 JVM이면 GC에 맡김)
+     */
+    private static void unmap(ByteBuffer mapped) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            invokeCleaner.invoke(field.get(null), mapped);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            System.err.println("스냅샷 매핑 해제 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 레코드 수
+     */
+    public int size() {
+        return recordCount;
+    }
+
+    /**
+     * index번째 레코드를 Task로 변환
+     */
+    public Task get(int index) {
+        if (index < 0 || index >= recordCount) {
+            throw new IndexOutOfBoundsException("레코드 범위를 벗어났습니다: " + index);
+        }
+        if (buffer == null) {
+            throw new IllegalStateException("닫힌 스냅샷입니다.");
+        }
+
+        int start = buffer.getInt(recordIndexOffset + index * 4);
+        int pos = start + idBytes;
+        int idRef = buffer.getInt(pos);
+        TaskId id = idBytes == 0 || idRef != NULL_REF
+                ? TaskId.parse(string(idRef))
+                : TaskId.of(buffer.getLong(start), buffer.getLong(start + 8));
+        String title = string(buffer.getInt(pos + 4));
+        int notesRef = buffer.getInt(pos + 8);
+        String notes = notesRef == EXTERNAL_REF ? null : string(notesRef);
+        int epochDay = buffer.getInt(pos + 12);
+        byte priority = buffer.get(pos + 16);
+        boolean completed = buffer.get(pos + 17) != 0;
+        int tagCount = buffer.getShort(pos + 18) & 0xFFFF;
+
+        List<String> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(string(buffer.getInt(pos + RECORD_FIXED_SIZE - ID_BYTES + i * 4)));
+        }
+
+        Task task = new Task(id, title,
+                epochDay == NULL_DATE ? null : LocalDate.ofEpochDay(epochDay),
+                priority == NULL_PRIORITY ? null : Priority.values()[priority],
+                notes == null ? "" : notes,
+                tags, completed);
+        if (notesRef == EXTERNAL_REF && externalNotes != null) {
+            task.setNotesLoader(externalNotes);
+        }
+        return task;
+    }
+
+    /**
+     * 문자열 테이블 참조를 문자열로 변환
+     */
+    private String string(int ref) {
+        if (ref == NULL_REF) {
+            return null;
+        }
+        if (ref < 0 || ref >= stringCount) {
+            throw new IllegalStateException("잘못된 문자열 참조: " + ref);
+        }
+
+        String cached = stringCache[ref];
+        if (cached == null) {
+            int start = buffer.getInt(stringTableOffset + ref * 4);
+            int end = buffer.getInt(stringTableOffset + (ref + 1) * 4);
+            byte[] bytes = new byte[end - start];
+            buffer.get(start, bytes);
+            cached = new String(bytes, StandardCharsets.UTF_8);
+            stringCache[ref] = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * 과제 목록을 바이너리 스냅샷으로 기록
+     */
+    public static void write(List<Task> tasks, Path path) throws IOException {
+        write(tasks, path, false);
+    }
+
+    /**
+     * 과제 목록을 바이너리 스냅샷으로 기록 (externalNotes가 true면 메모는 기록하지 않음)
+     */
+    public static void write(List<Task> tasks, Path path, boolean externalNotes) throws IOException {
+        ByteBuffer encoded = encode(tasks, externalNotes);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (encoded.hasRemaining()) {
+                channel.write(encoded);
+            }
+        }
+    }
+
+    /**
+     * 과제 목록을 스냅샷 바이트로 변환
+     */
+    static ByteBuffer encode(List<Task> tasks, boolean externalNotes) {
+        // 문자열 테이블 구성 (중복 제거)
+        Map<String, Integer> stringIds = new LinkedHashMap<>();
+        int[][] records = new int[tasks.size()][];
+        int recordBytes = 0;
+
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            List<String> tags = task.getTags();
+            int[] refs = new int[3 + tags.size()];
+            TaskId id = task.getTaskId();
+            refs[0] = id.isLegacy() ? intern(stringIds, id.toString()) : NULL_REF;
+            refs[1] = intern(stringIds, task.getTitle());
+            refs[2] = externalNotes ? EXTERNAL_REF : intern(stringIds, task.getNotes());
+            for (int t = 0; t < tags.size(); t++) {
+                refs[3 + t] = intern(stringIds, tags.get(t));
+            }
+            records[i] = refs;
+            recordBytes += RECORD_FIXED_SIZE + tags.size() * 4;
+        }
+
+        List<byte[]> stringBytes = new ArrayList<>(stringIds.size());
+        int stringDataSize = 0;
+        for (String value : stringIds.keySet()) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            stringBytes.add(bytes);
+            stringDataSize += bytes.length;
+        }
+
+        int stringCount = stringBytes.size();
+        int stringTableOffset = HEADER_SIZE;
+        int stringDataOffset = stringTableOffset + (stringCount + 1) * 4;
+        int recordIndexOffset = stringDataOffset + stringDataSize;
+        int recordDataOffset = recordIndexOffset + tasks.size() * 4;
+        ByteBuffer buffer = ByteBuffer.allocate(recordDataOffset + recordBytes);
+
+        // 헤더
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short) 0);
+        buffer.putInt(tasks.size());
+        buffer.putInt(stringCount);
+        buffer.putInt(stringTableOffset);
+        buffer.putInt(recordIndexOffset);
+        buffer.putInt(recordDataOffset);
+        buffer.putInt(0);
+
+        // 문자열 테이블
+        int offset = stringDataOffset;
+        for (byte[] bytes : stringBytes) {
+            buffer.putInt(offset);
+            offset += bytes.length;
+        }
+        buffer.putInt(offset);
+        for (byte[] bytes : stringBytes) {
+            buffer.put(bytes);
+        }
+
+        // 레코드 인덱스
+        offset = recordDataOffset;
+        for (int i = 0; i < tasks.size(); i++) {
+            buffer.putInt(offset);
+            offset += RECORD_FIXED_SIZE + (records[i].length - 3) * 4;
+        }
+
+        // 레코드 데이터
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            int[] refs = records[i];
+            buffer.putLong(task.getTaskId().getHigh());
+            buffer.putLong(task.getTaskId().getLow());
+            buffer.putInt(refs[0]);
+            buffer.putInt(refs[1]);
+            buffer.putInt(refs[2]);
+            buffer.putInt(task.getDueDate() == null ? NULL_DATE : (int) task.getDueDate().toEpochDay());
+            buffer.put(task.getPriority() == null ? NULL_PRIORITY : (byte) task.getPriority().ordinal());
+            buffer.put((byte) (task.isCompleted() ? 1 : 0));
+            buffer.putShort((short) (refs.length - 3));
+            for (int t = 3; t < refs.length; t++) {
+                buffer.putInt(refs[t]);
+            }
+        }
+
+        buffer.flip();
+        return buffer;
+    }
+
+    private static int intern(Map<String, Integer> stringIds, String value) {
+        if (value == null) {
+            return NULL_REF;
+        }
+        return stringIds.computeIfAbsent(value, key -> stringIds.size());
+    }
+}
@@ -0,0 +1,62 @@
+package com.studyplanner.service;
+
+import com.studyplanner.model.Task;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 바이너리 스냅샷 저장소 (tasks.bin + tasks.journal)
+ * tasks.bin이 아직 없으면 기존 tasks.json에서 가져옴
+ */
+public class BinaryStorageBackend extends FileStorageBackend {
+    private static final String DATA_FILE = "tasks.bin";
+    private static final String LEGACY_JSON_FILE = "tasks.json";
+
+    private final Path file;
+    private final Path legacyJsonFile;
+
+    public BinaryStorageBackend(Path dataDir) {
+        super(dataDir);
+        this.file = dataDir.resolve(DATA_FILE);
+        this.legacyJsonFile = dataDir.resolve(LEGACY_JSON_FILE);
+        AtomicFileWriter.deleteStaleTempFiles(file);
+    }
+
+    @Override
+    protected Path snapshotFile() {
+        return file;
+    }
+
+    @Override
+    protected List<Path> snapshotCandidates() {
+        List<Path> candidates = super.snapshotCandidates();
+        if (candidates.isEmpty() && Files.exists(legacyJsonFile)) {
+            candidates.add(legacyJsonFile);
+        }
+        return candidates;
+    }
+
+    @Override
+    protected void readSnapshot(Path file, Consumer<Task> sink) throws IOException {
+        if (file.equals(legacyJsonFile)) {
+            TaskJsonFormat.read(file, sink, noteStore);
+            return;
+        }
+
+        // 매핑 후 레코드를 하나씩 변환하고, 다음 저장에서 파일을 교체할 수 있도록 바로 해제
+        try (BinarySnapshot snapshot = BinarySnapshot.open(file, noteStore)) {
+            for (int i = 0; i < snapshot.size(); i++) {
+                sink.accept(snapshot.get(i));
+            }
+        }
+    }
+
+    @Override
+    protected void writeSnapshot(List<Task> tasks, Path file) throws IOException {
+        BinarySnapshot.write(tasks, file, true);
+    }
+}
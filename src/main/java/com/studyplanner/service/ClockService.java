@@ -0,0 +1,113 @@
+package com.studyplanner.service;
+
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오늘 날짜 서비스
+ * 오늘 날짜를 캐시하여 과제마다 시스템 시계를 읽지 않도록 하고,
+ * 자정이 지나면 todayProperty를 바꿔 날짜 기준 필터/통계가 다시 계산되도록 함
+ *
+ * 테스트에서는 고정/가짜 Clock을 넣고 checkRollover()로 날짜 변경을 확인
+ */
+public class ClockService {
+    // 절전/시간대 변경으로 타이머가 어긋나도 이 간격마다 날짜를 다시 확인
+    private static final Duration MAX_CHECK_INTERVAL = Duration.ofHours(1);
+
+    private final Clock clock;
+    private final ReadOnlyObjectWrapper<LocalDate> today;
+    private ScheduledExecutorService scheduler;
+
+    public ClockService(Clock clock) {
+        this.clock = clock;
+        this.today = new ReadOnlyObjectWrapper<>(this, "today", LocalDate.now(clock));
+    }
+
+    /**
+     * 시스템 시계를 사용하고 자정 확인을 시작한 서비스
+     */
+    public static ClockService startSystemClock(Executor uiExecutor) {
+        ClockService service = new ClockService(Clock.systemDefaultZone());
+        service.start(uiExecutor);
+        return service;
+    }
+
+    /**
+     * 캐시된 오늘 날짜
+     */
+    public LocalDate today() {
+        return today.get();
+    }
+
+    /**
+     * 시계를 다시 읽어 날짜가 바뀌었으면 todayProperty 갱신 (UI 스레드에서 호출)
+     *
+     * @return 날짜가 바뀌었으면 true
+     */
+    public boolean checkRollover() {
+        LocalDate current = LocalDate.now(clock);
+        if (current.equals(today.get())) {
+            return false;
+        }
+        today.set(current);
+        return true;
+    }
+
+    /**
+     * 자정(또는 최대 확인 간격)마다 날짜를 확인하도록 예약
+     *
+     * @param uiExecutor 날짜 변경을 알릴 스레드 (보통 Platform::runLater)
+     */
+    public synchronized void start(Executor uiExecutor) {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduleNextCheck(uiExecutor);
+    }
+
+    /**
+     * 자정 확인 중지
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private synchronized void scheduleNextCheck(Executor uiExecutor) {
+        if (scheduler == null) {
+            return;
+        }
+        Duration untilMidnight = Duration.between(clock.instant(),
+                LocalDate.now(clock).plusDays(1).atStartOfDay(clock.getZone()).toInstant());
+        // 자정 직후에 확인되도록 약간의 여유를 둠
+        Duration delay = untilMidnight.plusSeconds(1);
+        if (delay.compareTo(MAX_CHECK_INTERVAL) > 0) {
+            delay = MAX_CHECK_INTERVAL;
+        }
+        scheduler.schedule(() -> {
+            uiExecutor.execute(this::checkRollover);
+            scheduleNextCheck(uiExecutor);
+        }, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // Property getters
+
+    public ReadOnlyObjectProperty<LocalDate> todayProperty() {
+        return today.getReadOnlyProperty();
+    }
+}
@@ -0,0 +1,104 @@
+package com.studyplanner.service;
+
+import com.studyplanner.model.Task;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 마감일 색인 (날짜 → 해당 날짜 과제)
+ * 날짜/기간 조회는 O(log N + k)
+ */
+public class DueDateIndex implements TaskIndex {
+    private final NavigableMap<LocalDate, Set<Task>> buckets = new TreeMap<>();
+    // 과제가 현재 들어 있는 날짜 (마감일 변경 시 이전 위치를 찾기 위해 보관)
+    private final Map<Task, LocalDate> indexedDates = new IdentityHashMap<>();
+
+    @Override
+    public void onAdded(Task task) {
+        LocalDate dueDate = task.getDueDate();
+        if (dueDate == null) {
+            return;
+        }
+        buckets.computeIfAbsent(dueDate, date -> Collections.newSetFromMap(new IdentityHashMap<>())).add(task);
+        indexedDates.put(task, dueDate);
+    }
+
+    @Override
+    public void onRemoved(Task task) {
+        LocalDate indexed = indexedDates.remove(task);
+        if (indexed == null) {
+            return;
+        }
+        Set<Task> bucket = buckets.get(indexed);
+        bucket.remove(task);
+        if (bucket.isEmpty()) {
+            buckets.remove(indexed);
+        }
+    }
+
+    @Override
+    public void onChanged(Task task) {
+        if (indexedDates.containsKey(task) && indexedDates.get(task).equals(task.getDueDate())) {
+            return;
+        }
+        onRemoved(task);
+        onAdded(task);
+    }
+
+    /**
+     * 해당 날짜가 마감일인 과제
+     */
+    public Set<Task> tasksOn(LocalDate date) {
+        Set<Task> bucket = buckets.get(date);
+        return bucket == null ? Collections.emptySet() : Collections.unmodifiableSet(bucket);
+    }
+
+    /**
+     * 마감일이 from ~ to(포함)인 과제
+     */
+    public List<Task> tasksBetween(LocalDate from, LocalDate to) {
+        List<Task> result = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return result;
+        }
+        for (Set<Task> bucket : buckets.subMap(from, true, to, true).values()) {
+            result.addAll(bucket);
+        }
+        return result;
+    }
+
+    /**
+     * 마감일이 from ~ to(포함)인 과제 수
+     */
+    public int countBetween(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return 0;
+        }
+        int count = 0;
+        for (Set<Task> bucket : buckets.subMap(from, true, to, true).values()) {
+            count += bucket.size();
+        }
+        return count;
+    }
+
+    /**
+     * 기간 안에서 과제가 있는 날짜 (오름차순)
+     */
+    public Set<LocalDate> datesBetween(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return Collections.emptySet();
+        }
+        NavigableSet<LocalDate> dates = buckets.subMap(from, true, to, true).navigableKeySet();
+        return Collections.unmodifiableSet(new LinkedHashSet<>(dates));
+    }
+}
@@ -0,0 +1,196 @@
+package com.studyplanner.service;
+
+import com.studyplanner.AppConfig;
+import com.studyplanner.model.Priority;
+import com.studyplanner.model.Task;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 파일 기반 저장소 공통 구현
+ * 전체 스냅샷 + 변경 저널(tasks.journal) 구조이며, 스냅샷 형식은 하위 클래스가 결정
+ * 스냅샷은 AtomicFileWriter로 교체되며, 읽을 수 없으면 백업 세대에서 로드
+ * 메모는 스냅샷/저널에 넣지 않고 NoteStore(data/notes)에 따로 보관
+ */
+public abstract class FileStorageBackend implements StorageBackend {
+    private static final String JOURNAL_FILE = "tasks.journal";
+    private static final String NOTES_DIR = "notes";
+
+    protected final Path dataDir;
+    protected final NoteStore noteStore;
+    private final TaskJournal journal;
+    // 메모가 들어 있는 이전 형식 스냅샷을 읽음 (다음 변경 때 전체 저장으로 메모를 옮김)
+    private volatile boolean inlineNotesLoaded;
+
+    protected FileStorageBackend(Path dataDir) {
+        this.dataDir = dataDir;
+        this.noteStore = new NoteStore(dataDir.resolve(NOTES_DIR));
+        this.journal = new TaskJournal(dataDir.resolve(JOURNAL_FILE), noteStore);
+
+        // 데이터 디렉토리 생성
+        try {
+            Files.createDirectories(dataDir);
+        } catch (IOException e) {
+            System.err.println("데이터 디렉토리 생성 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 스냅샷 파일 경로
+     */
+    protected abstract Path snapshotFile();
+
+    /**
+     * 스냅샷 파일을 레코드 단위로 읽어 sink에 전달
+     */
+    protected abstract void readSnapshot(Path file, Consumer<Task> sink) throws IOException;
+
+    /**
+     * 스냅샷 기록 (file은 교체 전 임시 파일)
+     */
+    protected abstract void writeSnapshot(List<Task> tasks, Path file) throws IOException;
+
+    /**
+     * 로드할 스냅샷 후보 (우선순위 순): 스냅샷 파일과 백업 세대
+     */
+    protected List<Path> snapshotCandidates() {
+        List<Path> candidates = new ArrayList<>();
+        if (Files.exists(snapshotFile())) {
+            candidates.add(snapshotFile());
+        }
+        candidates.addAll(AtomicFileWriter.existingBackups(snapshotFile(), AppConfig.BACKUP_GENERATIONS));
+        return candidates;
+    }
+
+    /**
+     * 과제 목록 로드
+     * 마지막 스냅샷을 읽은 뒤 저널의 변경 기록을 순서대로 재적용
+     */
+    @Override
+    public int loadTasks(int batchSize, Consumer<List<Task>> consumer) {
+        List<Path> candidates = snapshotCandidates();
+        if (candidates.isEmpty() && !journal.exists()) {
+            System.out.println("데이터 파일이 없습니다. 샘플 데이터를 생성합니다.");
+            List<Task> samples = createSampleData();
+            saveTasks(samples);
+            consumer.accept(samples);
+            return samples.size();
+        }
+
+        TaskJournal.Replay replay = journal.replay(batchSize, consumer);
+        boolean failed = false;
+        for (Path candidate : candidates) {
+            try {
+                readSnapshot(candidate, task -> {
+                    inlineNotesLoaded |= task.isNotesLoaded();
+                    replay.acceptSnapshotTask(task);
+                });
+                if (failed) {
+                    System.err.println("스냅샷을 읽을 수 없어 백업에서 로드했습니다: " + candidate.getFileName());
+                }
+                break;
+            } catch (IOException | RuntimeException e) {
+                System.err.println("과제 로드 실패: " + candidate.getFileName() + " - " + e.getMessage());
+                failed = true;
+                if (replay.getSnapshotTaskCount() > 0) {
+                    // 일부를 이미 전달했으므로 이전 세대와 섞지 않음
+                    break;
+                }
+            }
+        }
+
+        int count = replay.finish();
+        System.out.println(count + "개의 과제를 로드했습니다.");
+        return count;
+    }
+
+    /**
+     * 과제 목록 저장
+     */
+    @Override
+    public void saveTasks(List<Task> tasks) {
+        try {
+            // 메모를 먼저 기록 (스냅샷에는 메모가 없음)
+            noteStore.saveNotes(tasks);
+            AtomicFileWriter.write(snapshotFile(), temp -> writeSnapshot(tasks, temp));
+
+            // 스냅샷에 모든 변경이 반영되었으므로 저널 비우기
+            journal.clear();
+            inlineNotesLoaded = false;
+
+            // 삭제된 과제의 메모 정리
+            Set<String> ids = new HashSet<>();
+            for (Task task : tasks) {
+                ids.add(task.getId());
+            }
+            noteStore.retainOnly(ids);
+
+            System.out.println(tasks.size() + "개의 과제를 저장했습니다.");
+
+        } catch (IOException e) {
+            System.err.println("과제 저장 실패: " + e.getMessage());
+            throw new RuntimeException("과제를 저장할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 변경 기록을 저널 끝에 추가
+     * 전체 파일을 다시 쓰지 않고 레코드만 순차 기록
+     */
+    @Override
+    public void apply(List<TaskMutation> mutations) {
+        try {
+            noteStore.apply(mutations);
+            journal.append(mutations);
+        } catch (IOException e) {
+            System.err.println("저널 기록 실패: " + e.getMessage());
+            throw new RuntimeException("변경 내용을 저장할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 저널이 충분히 길어져 스냅샷으로 압축할 시점인지 확인
+     */
+    @Override
+    public boolean isCompactionDue() {
+        return inlineNotesLoaded || journal.isDamaged()
+                || journal.getEntryCount() >= AppConfig.JOURNAL_COMPACTION_THRESHOLD;
+    }
+
+    /**
+     * 샘플 데이터 생성 (데이터 파일이 하나도 없을 때 사용)
+     */
+    static List<Task> createSampleData() {
+        List<Task> tasks = new ArrayList<>();
+
+        Task task1 = new Task("자바 과제 제출", LocalDate.now(), Priority.HIGH);
+        task1.setNotes("Chapter 5-7 연습문제 풀이");
+        task1.setTagsFromString("프로그래밍, 과제");
+        tasks.add(task1);
+
+        Task task2 = new Task("수학 시험 공부", LocalDate.now().plusDays(3), Priority.MEDIUM);
+        task2.setNotes("2차 방정식 복습");
+        task2.setTagsFromString("수학, 시험");
+        tasks.add(task2);
+
+        Task task3 = new Task("영어 단어 암기", LocalDate.now().plusDays(7), Priority.LOW);
+        task3.setNotes("Unit 10 단어 50개");
+        task3.setTagsFromString("영어, 암기");
+        tasks.add(task3);
+
+        Task task4 = new Task("프로젝트 기획서 작성", LocalDate.now().plusDays(5), Priority.HIGH);
+        task4.setNotes("팀 프로젝트 기획안 초안");
+        task4.setTagsFromString("프로젝트, 팀플");
+        tasks.add(task4);
+
+        return tasks;
+    }
+}
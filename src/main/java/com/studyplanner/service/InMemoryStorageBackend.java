@@ -0,0 +1,75 @@
+package com.studyplanner.service;
+
+import com.studyplanner.model.Task;
+import com.studyplanner.model.TaskId;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 메모리 저장소
+ * 디스크를 사용하지 않으므로 테스트와 성능 측정에 사용
+ */
+public class InMemoryStorageBackend implements StorageBackend {
+    // id 순서를 유지하는 저장 상태 (저장된 과제는 복사본)
+    private final Map<TaskId, Task> stored = new LinkedHashMap<>();
+
+    public InMemoryStorageBackend() {
+    }
+
+    /**
+     * 초기 과제 목록을 가진 저장소 생성
+     */
+    public InMemoryStorageBackend(List<Task> initialTasks) {
+        saveTasks(initialTasks);
+    }
+
+    @Override
+    public synchronized int loadTasks(int batchSize, Consumer<List<Task>> consumer) {
+        List<Task> batch = new ArrayList<>();
+        for (Task task : stored.values()) {
+            batch.add(task.copy());
+            if (batch.size() >= batchSize) {
+                consumer.accept(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            consumer.accept(batch);
+        }
+        return stored.size();
+    }
+
+    @Override
+    public synchronized void saveTasks(List<Task> tasks) {
+        stored.clear();
+        for (Task task : tasks) {
+            stored.put(task.getTaskId(), task.copy());
+        }
+    }
+
+    @Override
+    public synchronized void apply(List<TaskMutation> mutations) {
+        for (TaskMutation mutation : mutations) {
+            switch (mutation.getType()) {
+                case ADD:
+                case UPDATE:
+                    stored.put(mutation.getId(), mutation.getTask().copy());
+                    break;
+                case DELETE:
+                    stored.remove(mutation.getId());
+                    break;
+            }
+        }
+    }
+
+    /**
+     * 저장된 과제 수
+     */
+    public synchronized int size() {
+        return stored.size();
+    }
+}
@@ -0,0 +1,39 @@
+package com.studyplanner.service;
+
+import com.studyplanner.AppConfig;
+import com.studyplanner.model.Task;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * JSON 스냅샷 저장소 (tasks.json + tasks.journal)
+ */
+public class JsonStorageBackend extends FileStorageBackend {
+    private static final String DATA_FILE = "tasks.json";
+
+    private final Path file;
+
+    public JsonStorageBackend(Path dataDir) {
+        super(dataDir);
+        this.file = dataDir.resolve(DATA_FILE);
+        AtomicFileWriter.deleteStaleTempFiles(file);
+    }
+
+    @Override
+    protected Path snapshotFile() {
+        return file;
+    }
+
+    @Override
+    protected void readSnapshot(Path file, Consumer<Task> sink) throws IOException {
+        TaskJsonFormat.read(file, sink, noteStore);
+    }
+
+    @Override
+    protected void writeSnapshot(List<Task> tasks, Path file) throws IOException {
+        TaskJsonFormat.write(tasks, file, !AppConfig.JSON_COMPACT_OUTPUT, noteStore);
+    }
+}
@@ -0,0 +1,332 @@
+package com.studyplanner.service;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.studyplanner.AppConfig;
+import com.studyplanner.model.Task;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 과제 메모 저장소 (data/notes/<과제 id>.txt)
+ * 메모는 편집 다이얼로그를 열 때만 필요하므로 과제 목록과 분리하여 필요할 때 읽음
+ * 최근에 읽은 메모는 작은 LRU 캐시에 보관
+ *
+ * 한 번의 저장에서 바뀐 메모는 notes.log 끝에 한 번에 기록하고 fsync도 한 번만 한 뒤,
+ * 메모 파일은 fsync 없이 원자적으로 교체 (메모 수만큼 fsync하지 않음)
+ * 비정상 종료로 메모 파일이 디스크에 남지 않았으면 다음 시작 때 로그에서 복구하고,
+ * 로그가 길어지면 메모 파일을 fsync한 뒤 로그를 비움
+ *
+ * UI 스레드(읽기)와 쓰기 스레드(저장)에서 함께 사용
+ * 저장은 객체 자체로 동기화하고, 읽기는 캐시만 잠그므로 저장 중인 fsync를 기다리지 않음
+ * (메모 파일은 원자적으로 교체되므로 읽기는 이전 내용이나 새 내용 중 하나를 봄)
+ */
+public class NoteStore implements Task.NotesLoader {
+    private static final String NOTE_SUFFIX = ".txt";
+    private static final String LOG_FILE = "notes.log";
+    private static final Pattern SAFE_ID = Pattern.compile("[A-Za-z0-9-]{1,64}");
+
+    private final Path dir;
+    private final Path log;
+    // 최근 읽은 메모 (접근 순서 LRU, 이 맵 자체로 동기화)
+    private final Map<String, String> cache;
+    // 로그에 기록된 뒤 아직 fsync하지 않은 메모의 과제 id
+    private final Set<String> loggedIds = new HashSet<>();
+
+    public NoteStore(Path dir) {
+        this.dir = dir;
+        this.log = dir.resolve(LOG_FILE);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > AppConfig.NOTES_CACHE_SIZE;
+            }
+        };
+
+        // 메모 디렉토리 생성
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException e) {
+            System.err.println("데이터 디렉토리 생성 실패: " + e.getMessage());
+        }
+        // 메모 파일을 저장하다 남은 임시 파일 정리
+        AtomicFileWriter.deleteStaleTempFiles(dir, "");
+        recover();
+    }
+
+    /**
+     * 메모 읽기 (없으면 빈 문자열)
+     */
+    @Override
+    public String loadNotes(String taskId) {
+        synchronized (cache) {
+            String cached = cache.get(taskId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        String notes = "";
+        Path file = noteFile(taskId);
+        if (Files.exists(file)) {
+            try {
+                notes = Files.readString(file, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                System.err.println("메모 로드 실패: " + e.getMessage());
+                return "";
+            }
+        }
+        synchronized (cache) {
+            // 읽는 동안 저장된 새 내용이 있으면 그 내용을 사용
+            String saved = cache.putIfAbsent(taskId, notes);
+            return saved != null ? saved : notes;
+        }
+    }
+
+    /**
+     * 읽은 적 있는(변경되었을 수 있는) 메모만 저장
+     */
+    public void saveNotes(List<Task> tasks) throws IOException {
+        Map<String, String> notes = new LinkedHashMap<>();
+        for (Task task : tasks) {
+            if (task.isNotesLoaded()) {
+                notes.put(task.getId(), task.getNotes());
+            }
+        }
+        saveAll(notes);
+    }
+
+    /**
+     * 변경 기록의 메모를 한 번에 반영 (삭제된 과제는 메모 삭제, 읽은 적 없는 메모는 그대로)
+     */
+    public void apply(List<TaskMutation> mutations) throws IOException {
+        Map<String, String> notes = new LinkedHashMap<>();
+        for (TaskMutation mutation : mutations) {
+            if (mutation.getType() == TaskMutation.Type.DELETE) {
+                notes.put(mutation.getTaskId(), "");
+            } else if (mutation.getTask().isNotesLoaded()) {
+                notes.put(mutation.getTaskId(), mutation.getTask().getNotes());
+            }
+        }
+        saveAll(notes);
+    }
+
+    /**
+     * 여러 메모를 한 번에 저장 (과제 id → 메모, 내용이 같으면 기록하지 않고, null이거나 비어 있으면 파일 삭제)
+     */
+    public synchronized void saveAll(Map<String, String> notes) throws IOException {
+        Map<String, String> changed = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : notes.entrySet()) {
+            String value = entry.getValue() == null ? "" : entry.getValue();
+            if (!value.equals(loadNotes(entry.getKey()))) {
+                changed.put(entry.getKey(), value);
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        appendLog(changed);
+        for (Map.Entry<String, String> entry : changed.entrySet()) {
+            writeNoteFile(entry.getKey(), entry.getValue());
+            synchronized (cache) {
+                cache.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (Files.size(log) >= AppConfig.NOTES_LOG_COMPACTION_BYTES) {
+            checkpoint();
+        }
+    }
+
+    /**
+     * 목록에 없는 과제의 메모 삭제 (전체 저장 후 정리)
+     */
+    public synchronized void retainOnly(Set<String> taskIds) throws IOException {
+        Set<String> keep = new HashSet<>();
+        for (String taskId : taskIds) {
+            keep.add(fileName(taskId));
+        }
+
+        // 로그에 남은 메모가 복구 때 되살아나지 않도록 삭제도 기록
+        Map<String, String> removed = new LinkedHashMap<>();
+        for (String taskId : loggedIds) {
+            if (!taskIds.contains(taskId)) {
+                removed.put(taskId, "");
+            }
+        }
+        appendLog(removed);
+
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(NOTE_SUFFIX) && !keep.contains(name)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        synchronized (cache) {
+            cache.keySet().retainAll(taskIds);
+        }
+    }
+
+    /**
+     * 바뀐 메모를 로그 끝에 한 번의 쓰기로 기록 (fsync 한 번)
+     */
+    private void appendLog(Map<String, String> notes) throws IOException {
+        if (notes.isEmpty()) {
+            return;
+        }
+
+        StringWriter lines = new StringWriter();
+        for (Map.Entry<String, String> entry : notes.entrySet()) {
+            JsonWriter out = new JsonWriter(lines);
+            out.beginObject();
+            out.name("id").value(entry.getKey());
+            out.name("notes").value(entry.getValue());
+            out.endObject();
+            out.flush();
+            lines.write('\n');
+        }
+
+        ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            if (AtomicFileWriter.defaultDurability() != AtomicFileWriter.Durability.NONE) {
+                channel.force(false);
+            }
+        }
+        loggedIds.addAll(notes.keySet());
+    }
+
+    /**
+     * 로그에 기록된 메모 파일을 디스크에 기록한 뒤 로그 비우기
+     */
+    private void checkpoint() throws IOException {
+        AtomicFileWriter.Durability durability = AtomicFileWriter.defaultDurability();
+        if (durability != AtomicFileWriter.Durability.NONE) {
+            for (String taskId : loggedIds) {
+                Path file = noteFile(taskId);
+                if (Files.exists(file)) {
+                    AtomicFileWriter.forceFile(file);
+                }
+            }
+            // 이름 변경/삭제도 디스크에 남아야 로그 없이 복구할 수 있음
+            AtomicFileWriter.forceDirectory(dir);
+        }
+        Files.deleteIfExists(log);
+        loggedIds.clear();
+    }
+
+    /**
+     * 시작 시 로그에 남은 메모를 메모 파일에 다시 반영하고 로그 정리
+     * (기록 도중 중단된 마지막 줄과 그 이후는 무시)
+     */
+    private void recover() {
+        if (!Files.exists(log)) {
+            return;
+        }
+
+        try {
+            Map<String, String> notes = new LinkedHashMap<>();
+            for (String line : Files.readAllLines(log, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    readLogRecord(line, notes);
+                } catch (IOException | IllegalStateException | JsonParseException e) {
+                    System.err.println("손상된 메모 로그 레코드 이후는 무시합니다: " + e.getMessage());
+                    break;
+                }
+            }
+
+            for (Map.Entry<String, String> entry : notes.entrySet()) {
+                Path file = noteFile(entry.getKey());
+                String current = Files.exists(file) ? Files.readString(file, StandardCharsets.UTF_8) : "";
+                if (!current.equals(entry.getValue())) {
+                    writeNoteFile(entry.getKey(), entry.getValue());
+                }
+            }
+            loggedIds.addAll(notes.keySet());
+            checkpoint();
+        } catch (IOException e) {
+            System.err.println("메모 로그 복구 실패: " + e.getMessage());
+        }
+    }
+
+    private static void readLogRecord(String line, Map<String, String> notes) throws IOException {
+        String id = null;
+        String value = null;
+        try (JsonReader reader = new JsonReader(new StringReader(line))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "id":
+                        id = reader.nextString();
+                        break;
+                    case "notes":
+                        value = reader.nextString();
+                        break;
+                    default:
+                        reader.skipValue();
+                        break;
+                }
+            }
+            reader.endObject();
+        }
+        if (id == null || value == null) {
+            throw new JsonParseException("알 수 없는 메모 로그 레코드: " + line);
+        }
+        notes.put(id, value);
+    }
+
+    /**
+     * 메모 파일 교체 (fsync는 로그가 대신함, 비어 있으면 파일 삭제)
+     */
+    private void writeNoteFile(String taskId, String value) throws IOException {
+        Path file = noteFile(taskId);
+        if (value.isEmpty()) {
+            Files.deleteIfExists(file);
+        } else {
+            AtomicFileWriter.write(file, temp -> Files.writeString(temp, value, StandardCharsets.UTF_8),
+                    AtomicFileWriter.Durability.NONE, 0);
+        }
+    }
+
+    private Path noteFile(String taskId) {
+        return dir.resolve(fileName(taskId));
+    }
+
+    /**
+     * 과제 id를 파일 이름으로 변환 (UUID가 아닌 id는 경로 문자가 섞이지 않도록 16진수로 인코딩)
+     */
+    private static String fileName(String taskId) {
+        if (SAFE_ID.matcher(taskId).matches()) {
+            return taskId + NOTE_SUFFIX;
+        }
+        StringBuilder hex = new StringBuilder("_");
+        for (byte b : taskId.getBytes(StandardCharsets.UTF_8)) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.append(NOTE_SUFFIX).toString();
+    }
+}
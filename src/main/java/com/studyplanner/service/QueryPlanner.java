@@ -0,0 +1,181 @@
+package com.studyplanner.service;
+
+import com.studyplanner.model.Priority;
+import com.studyplanner.model.TagDictionary;
+import com.studyplanner.model.Task;
+import com.studyplanner.model.TaskId;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 검색 질의 실행 계획
+ * 색인으로 찾을 수 있는 조건 중 후보가 가장 적은 것으로 후보를 구하고,
+ * 나머지 조건은 후보에만 검사 (색인을 쓸 수 있는 조건이 없으면 전체 목록 검사)
+ */
+public class QueryPlanner {
+    // 후보가 이 개수 이하이면 검색어 색인을 조회하지 않고 후보를 바로 검사
+    private static final int VERIFY_LIMIT = 256;
+
+    private final Collection<Task> allTasks;
+    private final Map<TaskId, Task> tasksById;
+    private final DueDateIndex dueDateIndex;
+    private final TagIndex tagIndex;
+    private final ValueIndex<Boolean> completionIndex;
+    private final ValueIndex<Priority> priorityIndex;
+    private final SearchIndex searchIndex;
+
+    /**
+     * 실행 계획 (후보 집합과 전체 조건)
+     */
+    public static class Plan {
+        private final String indexName;
+        private final Collection<Task> candidates;
+        private final Predicate<Task> condition;
+
+        Plan(String indexName, Collection<Task> candidates, Predicate<Task> condition) {
+            this.indexName = indexName;
+            this.candidates = candidates;
+            this.condition = condition;
+        }
+
+        /**
+         * 후보를 구한 색인 ("scan"이면 전체 목록)
+         */
+        public String getIndexName() {
+            return indexName;
+        }
+
+        public Collection<Task> getCandidates() {
+            return candidates;
+        }
+
+        /**
+         * 모든 조건을 합친 검사 (이후 추가/변경되는 과제 판정에도 사용)
+         */
+        public Predicate<Task> getCondition() {
+            return condition;
+        }
+    }
+
+    public QueryPlanner(Collection<Task> allTasks, Map<TaskId, Task> tasksById, DueDateIndex dueDateIndex,
+                        TagIndex tagIndex, ValueIndex<Boolean> completionIndex,
+                        ValueIndex<Priority> priorityIndex, SearchIndex searchIndex) {
+        this.allTasks = allTasks;
+        this.tasksById = tasksById;
+        this.dueDateIndex = dueDateIndex;
+        this.tagIndex = tagIndex;
+        this.completionIndex = completionIndex;
+        this.priorityIndex = priorityIndex;
+        this.searchIndex = searchIndex;
+    }
+
+    /**
+     * 실행 계획 수립
+     */
+    public Plan plan(TaskQuery query) {
+        Predicate<Task> condition = task -> true;
+        for (TaskQuery.Term term : query.getTerms()) {
+            condition = condition.and(predicate(term));
+        }
+
+        String bestIndex = "scan";
+        Collection<Task> best = allTasks;
+        for (TaskQuery.Term term : indexableTerms(query)) {
+            // 기간 조건은 과제 수만 세어 보고, 가장 선택적일 때만 목록을 만듦
+            if (term.getField() == TaskQuery.Field.DUE) {
+                if (dueDateIndex.countBetween(term.getFrom(), term.getTo()) < best.size()) {
+                    best = dueDateIndex.tasksBetween(term.getFrom(), term.getTo());
+                    bestIndex = "due";
+                }
+                continue;
+            }
+            if (term.getField() == TaskQuery.Field.TEXT && best != allTasks && best.size() <= VERIFY_LIMIT) {
+                continue;
+            }
+            Collection<Task> candidates = candidates(term);
+            if (candidates.size() < best.size()) {
+                best = candidates;
+                bestIndex = term.getField().name().toLowerCase();
+            }
+        }
+        return new Plan(bestIndex, best, condition);
+    }
+
+    /**
+     * 색인을 쓸 수 있는 조건 (부정 조건 제외, 조회 비용이 큰 검색어 조건은 마지막)
+     */
+    private static List<TaskQuery.Term> indexableTerms(TaskQuery query) {
+        List<TaskQuery.Term> terms = new ArrayList<>();
+        for (TaskQuery.Term term : query.getTerms()) {
+            if (!term.isNegated() && term.getField() != TaskQuery.Field.TEXT) {
+                terms.add(term);
+            }
+        }
+        for (TaskQuery.Term term : query.getTerms()) {
+            if (!term.isNegated() && term.getField() == TaskQuery.Field.TEXT) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 색인으로 조건을 만족하는 과제 후보 조회 (DUE 제외)
+     */
+    private Collection<Task> candidates(TaskQuery.Term term) {
+        switch (term.getField()) {
+            case ID:
+                Task task = tasksById.get(TaskId.parse(term.getText()));
+                return task == null ? Collections.emptyList() : List.of(task);
+            case TAG:
+                return tagIndex.tasksWithTag(term.getText());
+            case PRIORITY:
+                return priorityIndex.tasksWith(term.getPriority());
+            case DONE:
+                return completionIndex.tasksWith(term.isDone());
+            case TEXT:
+                return searchIndex.search(term.getText());
+            default:
+                return allTasks;
+        }
+    }
+
+    /**
+     * 조건 하나의 검사
+     */
+    private Predicate<Task> predicate(TaskQuery.Term term) {
+        Predicate<Task> predicate;
+        switch (term.getField()) {
+            case ID:
+                TaskId id = TaskId.parse(term.getText());
+                predicate = task -> task.getTaskId().equals(id);
+                break;
+            case TAG:
+                // 사전의 정수 id와 과제의 태그 서명 비트로 비교 (아직 사전에 없는 태그는 과제마다 다시 조회)
+                int folded = TagDictionary.shared().findFolded(term.getText());
+                predicate = folded >= 0
+                        ? task -> task.hasFoldedTag(folded)
+                        : task -> task.hasTag(term.getText());
+                break;
+            case PRIORITY:
+                predicate = task -> task.getPriority() == term.getPriority();
+                break;
+            case DUE:
+                predicate = task -> task.getDueDate() != null
+                        && !task.getDueDate().isBefore(term.getFrom())
+                        && !task.getDueDate().isAfter(term.getTo());
+                break;
+            case DONE:
+                predicate = task -> task.isCompleted() == term.isDone();
+                break;
+            default:
+                predicate = task -> searchIndex.matches(task, term.getText());
+        }
+        return term.isNegated() ? predicate.negate() : predicate;
+    }
+}
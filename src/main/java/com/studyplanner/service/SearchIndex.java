@@ -0,0 +1,244 @@
+package com.studyplanner.service;
+
+import com.studyplanner.model.Task;
+import com.studyplanner.util.HangulUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 제목/태그 검색용 n-gram 역색인
+ * 제목과 각 태그를 소문자로 바꾼 뒤 자모로 분해한 문자열과 초성 문자열을 각각 1-gram, 2-gram으로 색인하며,
+ * 부분 문자열 검색은 질의의 2-gram 후보를 교집합한 뒤 실제 포함 여부로 확인
+ *
+ * 자음만 입력한 검색어("ㅈㅂ")는 초성으로 비교하고, 그 밖의 검색어는 자모 gram으로 후보를 찾은 뒤
+ * 마지막 글자만 자모 앞부분으로, 나머지는 글자 단위로 확인하므로
+ * 조합 중인 마지막 글자("과제"를 입력하는 도중의 "고")는 일치하고 글자 경계를 넘는 일치("강" → "가요")는 없음
+ *
+ * UI 스레드(갱신)와 검색 스레드(조회)에서 함께 사용하므로 모든 메서드는 동기화
+ */
+public class SearchIndex implements TaskIndex {
+    // gram → 해당 gram을 가진 과제 (자모 문자열 / 초성 문자열)
+    private final Map<String, Set<Task>> jamoPostings = new HashMap<>();
+    private final Map<String, Set<Task>> chosungPostings = new HashMap<>();
+    // 과제별 색인된 텍스트 - 변경 감지와 후보 확인에 사용
+    private final Map<Task, Entry> entries = new IdentityHashMap<>();
+    // 색인이 바뀔 때마다 증가 (백그라운드 검색 결과가 최신인지 확인용)
+    private long version;
+
+    /**
+     * 과제 하나의 색인 텍스트 (필드 순서: 제목, 태그...)
+     */
+    private static class Entry {
+        final String[] text;
+        final String[] jamo;
+        final String[] chosung;
+
+        Entry(String[] text, String[] jamo, String[] chosung) {
+            this.text = text;
+            this.jamo = jamo;
+            this.chosung = chosung;
+        }
+
+        boolean sameAs(Entry other) {
+            return Arrays.equals(text, other.text);
+        }
+    }
+
+    @Override
+    public synchronized void onAdded(Task task) {
+        Entry entry = createEntry(task);
+        entries.put(task, entry);
+        version++;
+        addPostings(jamoPostings, entry.jamo, task);
+        addPostings(chosungPostings, entry.chosung, task);
+    }
+
+    @Override
+    public synchronized void onRemoved(Task task) {
+        Entry entry = entries.remove(task);
+        if (entry == null) {
+            return;
+        }
+        version++;
+        removePostings(jamoPostings, entry.jamo, task);
+        removePostings(chosungPostings, entry.chosung, task);
+    }
+
+    @Override
+    public synchronized void onChanged(Task task) {
+        Entry previous = entries.get(task);
+        if (previous != null && previous.sameAs(createEntry(task))) {
+            // 제목/태그 외의 속성 변경
+            return;
+        }
+        onRemoved(task);
+        onAdded(task);
+    }
+
+    /**
+     * 제목이나 태그에 query(소문자)를 포함하는 과제
+     */
+    public synchronized List<Task> search(String query) {
+        List<Task> result = new ArrayList<>();
+        if (query.isEmpty()) {
+            return result;
+        }
+
+        boolean chosung = HangulUtil.isChosungQuery(query);
+        String term = chosung ? query : HangulUtil.toJamo(query);
+        Set<Task> candidates = candidates(chosung ? chosungPostings : jamoPostings, term);
+        if (candidates == null) {
+            return result;
+        }
+        for (Task task : candidates) {
+            Entry entry = entries.get(task);
+            if (chosung ? contains(entry.chosung, term) : containsComposing(entry.text, query)) {
+                result.add(task);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 검색 결과와 검색 시점의 색인 버전
+     */
+    public synchronized BackgroundSearcher.Result searchSnapshot(String query) {
+        return new BackgroundSearcher.Result(query, search(query), version);
+    }
+
+    /**
+     * 현재 색인 버전
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * 색인된 텍스트로 과제가 query(소문자)를 포함하는지 확인
+     */
+    public synchronized boolean matches(Task task, String query) {
+        Entry entry = entries.get(task);
+        if (entry == null) {
+            return false;
+        }
+        if (HangulUtil.isChosungQuery(query)) {
+            return contains(entry.chosung, query);
+        }
+        return containsComposing(entry.text, query);
+    }
+
+    private static boolean contains(String[] fields, String term) {
+        for (String field : fields) {
+            if (field.contains(term)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsComposing(String[] fields, String query) {
+        for (String field : fields) {
+            if (HangulUtil.containsComposing(field, query)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 질의의 gram을 모두 가진 과제 (가장 작은 posting부터 교집합)
+     *
+     * @return 후보가 없으면 null
+     */
+    private static Set<Task> candidates(Map<String, Set<Task>> postings, String term) {
+        if (term.length() == 1) {
+            return postings.get(term);
+        }
+
+        List<Set<Task>> lists = new ArrayList<>();
+        for (int i = 0; i + 2 <= term.length(); i++) {
+            Set<Task> posting = postings.get(term.substring(i, i + 2));
+            if (posting == null) {
+                return null;
+            }
+            lists.add(posting);
+        }
+        lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+        Set<Task> smallest = lists.get(0);
+        if (lists.size() == 1) {
+            return smallest;
+        }
+        Set<Task> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Task task : smallest) {
+            boolean inAll = true;
+            for (int i = 1; i < lists.size() && inAll; i++) {
+                inAll = lists.get(i).contains(task);
+            }
+            if (inAll) {
+                result.add(task);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 검색 대상 텍스트 (소문자 제목, 소문자 태그들)와 그 자모/초성
+     */
+    private static Entry createEntry(Task task) {
+        List<String> tags = task.getTags();
+        String[] text = new String[1 + tags.size()];
+        String[] jamo = new String[1 + tags.size()];
+        String[] chosung = new String[1 + tags.size()];
+        for (int i = 0; i < jamo.length; i++) {
+            String field = i == 0 ? task.getTitle() : tags.get(i - 1);
+            String lower = field == null ? "" : field.toLowerCase();
+            text[i] = lower;
+            jamo[i] = HangulUtil.toJamo(lower);
+            chosung[i] = HangulUtil.toChosung(lower);
+        }
+        return new Entry(text, jamo, chosung);
+    }
+
+    private static void addPostings(Map<String, Set<Task>> postings, String[] fields, Task task) {
+        for (String gram : grams(fields)) {
+            postings.computeIfAbsent(gram, key -> Collections.newSetFromMap(new IdentityHashMap<>())).add(task);
+        }
+    }
+
+    private static void removePostings(Map<String, Set<Task>> postings, String[] fields, Task task) {
+        for (String gram : grams(fields)) {
+            Set<Task> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(task);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * 필드별 1-gram, 2-gram (필드 경계를 넘는 gram은 만들지 않음)
+     */
+    private static Set<String> grams(String[] fields) {
+        Set<String> grams = new HashSet<>();
+        for (String field : fields) {
+            for (int i = 0; i < field.length(); i++) {
+                grams.add(field.substring(i, i + 1));
+                if (i + 2 <= field.length()) {
+                    grams.add(field.substring(i, i + 2));
+                }
+            }
+        }
+        return grams;
+    }
+}
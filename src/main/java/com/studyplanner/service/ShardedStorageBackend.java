@@ -0,0 +1,422 @@
+package com.studyplanner.service;
+
+import com.studyplanner.AppConfig;
+import com.studyplanner.model.Task;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 월별 분할 저장소 (data/shards/2024-05.json, 마감일이 없으면 undated.json)
+ * 개별 변경은 저널(shards/tasks.journal)에 추가하고, 전체 저장 시 내용이 바뀐 월 파일만 다시 기록
+ * 로드 시 가까운 월부터 읽은 뒤 저널을 재적용
+ * 메모는 월 파일에 넣지 않고 NoteStore(data/notes)에 따로 보관
+ *
+ * 월 파일 내용은 메모리에 보관하지 않고 월별 지문(fingerprint)만 보관하여 바뀐 월을 판단
+ * 처음 초기화(샘플 생성 또는 tasks.json 이전)한 뒤에는 표시 파일을 남겨 빈 저장소가 다시 초기화되지 않도록 함
+ */
+public class ShardedStorageBackend implements StorageBackend {
+    private static final String SHARD_DIR = "shards";
+    private static final String SHARD_SUFFIX = ".json";
+    private static final String UNDATED_SHARD = "undated";
+    private static final String LEGACY_JSON_FILE = "tasks.json";
+    private static final String MIGRATED_SUFFIX = ".migrated";
+    private static final String INITIALIZED_MARKER = ".initialized";
+    private static final String JOURNAL_FILE = "tasks.journal";
+    private static final String NOTES_DIR = "notes";
+    // 월 파일 지문 (FNV-1a 64비트)
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Path dataDir;
+    private final Path shardDir;
+    private final NoteStore noteStore;
+    private final TaskJournal journal;
+
+    // 디스크의 월 파일 내용 지문 (이번 실행에서 읽거나 기록한 월만, 키 null = 마감일 없음)
+    private final Map<YearMonth, Long> shardFingerprints = new HashMap<>();
+    // 메모가 들어 있는 이전 형식 월 파일을 읽음 (다음 전체 저장 때 메모를 옮김)
+    private volatile boolean inlineNotesLoaded;
+
+    public ShardedStorageBackend(Path dataDir) {
+        this.dataDir = dataDir;
+        this.shardDir = dataDir.resolve(SHARD_DIR);
+        this.noteStore = new NoteStore(dataDir.resolve(NOTES_DIR));
+        this.journal = new TaskJournal(shardDir.resolve(JOURNAL_FILE), noteStore);
+
+        // 샤드 디렉토리 생성
+        try {
+            Files.createDirectories(shardDir);
+        } catch (IOException e) {
+            System.err.println("데이터 디렉토리 생성 실패: " + e.getMessage());
+        }
+        // 월 파일을 저장하다 남은 임시 파일 정리
+        AtomicFileWriter.deleteStaleTempFiles(shardDir, "");
+    }
+
+    /**
+     * 과제 목록 로드
+     * 이번 달 전후(AppConfig.SHARD_PRELOAD_MONTHS) 범위를 먼저 전달한 뒤 나머지 월을 전달하고,
+     * 마지막 전체 저장 이후의 변경은 저널에서 재적용
+     */
+    @Override
+    public int loadTasks(int batchSize, Consumer<List<Task>> consumer) {
+        List<YearMonth> months = listShards();
+        if (months.isEmpty() && !journal.exists() && !isInitialized()) {
+            return loadInitialTasks(consumer);
+        }
+        markInitialized();
+
+        YearMonth now = YearMonth.now();
+        YearMonth windowStart = now.minusMonths(AppConfig.SHARD_PRELOAD_MONTHS);
+        YearMonth windowEnd = now.plusMonths(AppConfig.SHARD_PRELOAD_MONTHS);
+
+        List<YearMonth> ordered = new ArrayList<>();
+        List<YearMonth> rest = new ArrayList<>();
+        for (YearMonth month : months) {
+            if (month != null && !month.isBefore(windowStart) && !month.isAfter(windowEnd)) {
+                ordered.add(month);
+            } else {
+                rest.add(month);
+            }
+        }
+        ordered.addAll(rest);
+
+        TaskJournal.Replay replay = journal.replay(batchSize, consumer);
+        for (YearMonth month : ordered) {
+            readShard(month).forEach(replay::acceptSnapshotTask);
+        }
+
+        int count = replay.finish();
+        System.out.println(count + "개의 과제를 로드했습니다.");
+        return count;
+    }
+
+    /**
+     * 마감일 범위에 해당하는 월 파일만 읽어 로드 (저널의 변경도 반영)
+     */
+    @Override
+    public int loadTasks(LocalDate from, LocalDate to, int batchSize, Consumer<List<Task>> consumer) {
+        YearMonth first = YearMonth.from(from);
+        YearMonth last = YearMonth.from(to);
+
+        int[] count = new int[1];
+        Consumer<List<Task>> inRangeConsumer = batch -> {
+            List<Task> inRange = new ArrayList<>(batch.size());
+            for (Task task : batch) {
+                LocalDate dueDate = task.getDueDate();
+                if (dueDate != null && !dueDate.isBefore(from) && !dueDate.isAfter(to)) {
+                    inRange.add(task);
+                }
+            }
+            if (!inRange.isEmpty()) {
+                count[0] += inRange.size();
+                consumer.accept(inRange);
+            }
+        };
+
+        List<YearMonth> months = listShards();
+        if (months.isEmpty() && !journal.exists() && !isInitialized()) {
+            // 처음 사용하는 저장소는 초기화한 뒤 범위 안의 과제만 전달
+            loadInitialTasks(inRangeConsumer);
+            return count[0];
+        }
+
+        TaskJournal.Replay replay = journal.replay(batchSize, inRangeConsumer);
+        for (YearMonth month : months) {
+            if (month == null || month.isBefore(first) || month.isAfter(last)) {
+                continue;
+            }
+            readShard(month).forEach(replay::acceptSnapshotTask);
+        }
+        replay.finish();
+        return count[0];
+    }
+
+    @Override
+    public boolean supportsRangeLoad() {
+        return true;
+    }
+
+    /**
+     * 처음 사용하는 저장소: 기존 tasks.json을 옮기거나 샘플 데이터 생성
+     * 옮긴 tasks.json은 tasks.json.migrated로 이름을 바꿔 다시 옮기지 않음
+     */
+    private int loadInitialTasks(Consumer<List<Task>> consumer) {
+        Path legacyFile = dataDir.resolve(LEGACY_JSON_FILE);
+        boolean migrating = Files.exists(legacyFile);
+        List<Task> tasks;
+        if (migrating) {
+            System.out.println("tasks.json을 월별 파일로 옮깁니다.");
+            tasks = new JsonStorageBackend(dataDir).loadTasks();
+        } else {
+            System.out.println("데이터 파일이 없습니다. 샘플 데이터를 생성합니다.");
+            tasks = FileStorageBackend.createSampleData();
+        }
+
+        // 저장소는 전달받은 과제를 보관하지 않으므로 그대로 저장
+        saveTasks(tasks);
+        if (migrating) {
+            try {
+                Files.move(legacyFile, legacyFile.resolveSibling(LEGACY_JSON_FILE + MIGRATED_SUFFIX),
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                // 표시 파일이 있으므로 다음 실행에서 다시 옮기지 않음
+                System.err.println("tasks.json 이름 변경 실패: " + e.getMessage());
+            }
+        }
+
+        consumer.accept(tasks);
+        return tasks.size();
+    }
+
+    /**
+     * 전체 저장: 월별 지문을 이전 상태와 비교해 내용이 바뀐 월만 다시 기록하고 저널 비우기
+     */
+    @Override
+    public void saveTasks(List<Task> tasks) {
+        saveNotes(tasks);
+
+        Map<YearMonth, List<Task>> next = new HashMap<>();
+        for (Task task : tasks) {
+            next.computeIfAbsent(shardKey(task), key -> new ArrayList<>()).add(task);
+        }
+
+        int written = 0;
+        try {
+            for (Map.Entry<YearMonth, List<Task>> entry : next.entrySet()) {
+                YearMonth month = entry.getKey();
+                long fingerprint = fingerprint(entry.getValue());
+                Long previous = shardFingerprints.get(month);
+                if (previous != null && previous == fingerprint) {
+                    continue;
+                }
+                List<Task> contents = entry.getValue();
+                AtomicFileWriter.write(shardFile(month), temp ->
+                        TaskJsonFormat.write(contents, temp, !AppConfig.JSON_COMPACT_OUTPUT, noteStore));
+                shardFingerprints.put(month, fingerprint);
+                written++;
+            }
+
+            // 과제가 없어진 월 파일 삭제
+            for (YearMonth month : listShards()) {
+                if (!next.containsKey(month)) {
+                    Files.deleteIfExists(shardFile(month));
+                    shardFingerprints.remove(month);
+                    written++;
+                }
+            }
+
+            // 월 파일에 모든 변경이 반영되었으므로 저널 비우기
+            journal.clear();
+            inlineNotesLoaded = false;
+            markInitialized();
+        } catch (IOException e) {
+            System.err.println("과제 저장 실패: " + e.getMessage());
+            throw new RuntimeException("과제를 저장할 수 없습니다.", e);
+        }
+
+        // 삭제된 과제의 메모 정리
+        try {
+            Set<String> ids = new HashSet<>();
+            for (Task task : tasks) {
+                ids.add(task.getId());
+            }
+            noteStore.retainOnly(ids);
+        } catch (IOException e) {
+            System.err.println("메모 정리 실패: " + e.getMessage());
+        }
+
+        System.out.println(tasks.size() + "개의 과제를 저장했습니다. (" + written + "개 파일 기록)");
+    }
+
+    /**
+     * 변경 기록을 저널 끝에 추가 (월 파일은 다음 전체 저장 때 기록)
+     */
+    @Override
+    public void apply(List<TaskMutation> mutations) {
+        try {
+            noteStore.apply(mutations);
+            journal.append(mutations);
+        } catch (IOException e) {
+            System.err.println("저널 기록 실패: " + e.getMessage());
+            throw new RuntimeException("변경 내용을 저장할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 저널이 충분히 길어져 월 파일로 정리할 시점인지 확인
+     */
+    @Override
+    public boolean isCompactionDue() {
+        return inlineNotesLoaded || journal.isDamaged()
+                || journal.getEntryCount() >= AppConfig.JOURNAL_COMPACTION_THRESHOLD;
+    }
+
+    private void saveNotes(List<Task> tasks) {
+        try {
+            noteStore.saveNotes(tasks);
+        } catch (IOException e) {
+            System.err.println("메모 저장 실패: " + e.getMessage());
+            throw new RuntimeException("과제를 저장할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 월 파일 읽기 (읽을 수 없으면 백업 세대에서 읽음) 후 지문 기록
+     */
+    private List<Task> readShard(YearMonth month) {
+        List<Task> loaded = new ArrayList<>();
+        Path file = shardFile(month);
+        List<Path> candidates = new ArrayList<>();
+        if (Files.exists(file)) {
+            candidates.add(file);
+        }
+        candidates.addAll(AtomicFileWriter.existingBackups(file, AppConfig.BACKUP_GENERATIONS));
+        for (Path candidate : candidates) {
+            try {
+                TaskJsonFormat.read(candidate, loaded::add, noteStore);
+                if (candidate != file) {
+                    System.err.println("월 파일을 읽을 수 없어 백업에서 로드했습니다: " + candidate.getFileName());
+                }
+                break;
+            } catch (IOException e) {
+                System.err.println("과제 로드 실패: " + candidate.getFileName() + " - " + e.getMessage());
+                // 손상된 파일에서 읽은 일부는 버리고 이전 세대로 다시 시도
+                loaded.clear();
+            }
+        }
+
+        boolean inlineNotes = false;
+        for (Task task : loaded) {
+            inlineNotes |= task.isNotesLoaded();
+        }
+        if (inlineNotes) {
+            // 메모가 들어 있는 이전 형식: 지문을 남기지 않아 다음 전체 저장 때 메모 없이 다시 기록
+            inlineNotesLoaded = true;
+            shardFingerprints.remove(month);
+        } else {
+            shardFingerprints.put(month, fingerprint(loaded));
+        }
+        return loaded;
+    }
+
+    private boolean isInitialized() {
+        return Files.exists(shardDir.resolve(INITIALIZED_MARKER));
+    }
+
+    /**
+     * 저장소를 초기화했다는 표시 파일 생성 (이후 과제가 모두 삭제되어도 샘플을 다시 만들지 않음)
+     */
+    private void markInitialized() {
+        Path marker = shardDir.resolve(INITIALIZED_MARKER);
+        if (Files.exists(marker)) {
+            return;
+        }
+        try {
+            Files.createFile(marker);
+        } catch (FileAlreadyExistsException e) {
+            // 다른 경로에서 이미 생성됨
+        } catch (IOException e) {
+            System.err.println("저장소 표시 파일 생성 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 디스크에 있는 월 목록 (오름차순, 마감일 없음은 마지막)
+     */
+    private List<YearMonth> listShards() {
+        TreeSet<YearMonth> months = new TreeSet<>();
+        boolean undated = false;
+        try (Stream<Path> files = Files.list(shardDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (!name.endsWith(SHARD_SUFFIX)) {
+                    continue;
+                }
+                String key = name.substring(0, name.length() - SHARD_SUFFIX.length());
+                if (key.equals(UNDATED_SHARD)) {
+                    undated = true;
+                    continue;
+                }
+                try {
+                    months.add(YearMonth.parse(key));
+                } catch (DateTimeParseException e) {
+                    System.err.println("알 수 없는 데이터 파일: " + name);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("데이터 디렉토리 읽기 실패: " + e.getMessage());
+            return Collections.emptyList();
+        }
+
+        List<YearMonth> result = new ArrayList<>(months);
+        if (undated) {
+            result.add(null);
+        }
+        return result;
+    }
+
+    private Path shardFile(YearMonth month) {
+        String key = month == null ? UNDATED_SHARD : month.toString();
+        return shardDir.resolve(key + SHARD_SUFFIX);
+    }
+
+    private static YearMonth shardKey(Task task) {
+        return task.getDueDate() == null ? null : YearMonth.from(task.getDueDate());
+    }
+
+    /**
+     * 월 파일에 기록되는 필드의 64비트 지문 (순서 포함, 메모는 NoteStore에 있으므로 제외)
+     */
+    private static long fingerprint(List<Task> tasks) {
+        long hash = FNV_OFFSET;
+        for (Task task : tasks) {
+            hash = mix(hash, task.getTaskId().getHigh());
+            hash = mix(hash, task.getTaskId().getLow());
+            hash = mix(hash, task.getTitle());
+            hash = mix(hash, task.getDueDate() == null ? Long.MIN_VALUE : task.getDueDate().toEpochDay());
+            hash = mix(hash, task.getPriority() == null ? -1 : task.getPriority().ordinal());
+            for (String tag : task.getTags()) {
+                hash = mix(hash, tag);
+            }
+            hash = mix(hash, task.getTags().size());
+            hash = mix(hash, task.isCompleted() ? 1 : 0);
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, long value) {
+        for (int i = 0; i < 8; i++) {
+            hash = (hash ^ (value & 0xFF)) * FNV_PRIME;
+            value >>>= 8;
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            return mix(hash, -1L);
+        }
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return mix(hash, value.length());
+    }
+}
@@ -0,0 +1,91 @@
+package com.studyplanner.service;
+
+import com.studyplanner.model.Task;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 과제 저장소 인터페이스
+ * TaskService는 이 인터페이스에만 의존하며, 구현은 설정(AppConfig.STORAGE_BACKEND)으로 선택
+ *
+ * 구현체는 한 번에 하나의 스레드에서만 호출된다고 가정 (로드는 시작 시, 이후에는 쓰기 스레드)
+ */
+public interface StorageBackend {
+
+    /**
+     * 과제 목록을 batchSize개씩 consumer에 전달하며 로드
+     *
+     * @return 로드한 과제 수
+     */
+    int loadTasks(int batchSize, Consumer<List<Task>> consumer);
+
+    /**
+     * 과제 목록 전체 로드
+     */
+    default List<Task> loadTasks() {
+        List<Task> tasks = new ArrayList<>();
+        loadTasks(Integer.MAX_VALUE, tasks::addAll);
+        return tasks;
+    }
+
+    /**
+     * 마감일이 from ~ to(포함) 범위인 과제만 로드
+     * 기본 구현은 전체를 읽은 뒤 걸러내며, 범위 단위로 나뉜 저장소는 해당 부분만 읽음
+     *
+     * @return 로드한 과제 수
+     */
+    default int loadTasks(LocalDate from, LocalDate to, int batchSize, Consumer<List<Task>> consumer) {
+        List<Task> batch = new ArrayList<>();
+        int count = 0;
+        for (Task task : loadTasks()) {
+            LocalDate dueDate = task.getDueDate();
+            if (dueDate == null || dueDate.isBefore(from) || dueDate.isAfter(to)) {
+                continue;
+            }
+            batch.add(task);
+            count++;
+            if (batch.size() >= batchSize) {
+                consumer.accept(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            consumer.accept(batch);
+        }
+        return count;
+    }
+
+    /**
+     * 범위 로드가 전체 로드보다 빠른 저장소인지 확인 (범위 단위로 나뉜 저장소)
+     * true면 TaskService는 가까운 범위를 먼저 로드하고 나머지는 쓰기 스레드에서 로드
+     */
+    default boolean supportsRangeLoad() {
+        return false;
+    }
+
+    /**
+     * 과제 목록 전체 저장 (스냅샷)
+     */
+    void saveTasks(List<Task> tasks);
+
+    /**
+     * 변경 기록만 반영 (증분 저장)
+     */
+    void apply(List<TaskMutation> mutations);
+
+    /**
+     * 증분 기록이 충분히 쌓여 전체 저장으로 정리할 시점인지 확인
+     */
+    default boolean isCompactionDue() {
+        return false;
+    }
+
+    /**
+     * 저장소 자원 정리
+     */
+    default void close() {
+    }
+}
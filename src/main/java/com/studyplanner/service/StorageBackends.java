@@ -0,0 +1,41 @@
+package com.studyplanner.service;
+
+import com.studyplanner.AppConfig;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 저장소 구현 선택
+ */
+public class StorageBackends {
+    public static final String SHARDED = "sharded";
+    public static final String JSON = "json";
+    public static final String BINARY = "binary";
+    public static final String MEMORY = "memory";
+
+    /**
+     * 설정(AppConfig)에 지정된 저장소 생성
+     */
+    public static StorageBackend createDefault() {
+        return create(AppConfig.STORAGE_BACKEND, Paths.get(AppConfig.DATA_DIR));
+    }
+
+    /**
+     * 종류와 데이터 디렉토리로 저장소 생성
+     */
+    public static StorageBackend create(String type, Path dataDir) {
+        switch (type) {
+            case SHARDED:
+                return new ShardedStorageBackend(dataDir);
+            case JSON:
+                return new JsonStorageBackend(dataDir);
+            case BINARY:
+                return new BinaryStorageBackend(dataDir);
+            case MEMORY:
+                return new InMemoryStorageBackend();
+            default:
+                throw new IllegalArgumentException("알 수 없는 저장소 종류입니다: " + type);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.studyplanner.service;
+
+import com.studyplanner.model.TagDictionary;
+import com.studyplanner.model.Task;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 태그 색인 (태그 사전의 folded id → 해당 태그가 있는 과제)
+ * 대소문자를 구분하지 않으며, 태그 문자열 대신 정수 id로 비교
+ */
+public class TagIndex implements TaskIndex {
+    private final Map<Integer, Set<Task>> buckets = new HashMap<>();
+    // 과제별로 색인된 folded id (태그 변경 시 이전 위치를 찾기 위해 보관)
+    private final Map<Task, int[]> indexedTags = new IdentityHashMap<>();
+
+    @Override
+    public void onAdded(Task task) {
+        int[] tags = task.getFoldedTagIds();
+        indexedTags.put(task, tags);
+        for (int tag : tags) {
+            buckets.computeIfAbsent(tag, key -> Collections.newSetFromMap(new IdentityHashMap<>())).add(task);
+        }
+    }
+
+    @Override
+    public void onRemoved(Task task) {
+        int[] tags = indexedTags.remove(task);
+        if (tags == null) {
+            return;
+        }
+        for (int tag : tags) {
+            Set<Task> bucket = buckets.get(tag);
+            // 같은 태그가 대소문자만 달리 두 번 있으면 이미 제거됨
+            if (bucket != null) {
+                bucket.remove(task);
+                if (bucket.isEmpty()) {
+                    buckets.remove(tag);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onChanged(Task task) {
+        int[] indexed = indexedTags.get(task);
+        if (indexed != null && Arrays.equals(indexed, task.getFoldedTagIds())) {
+            return;
+        }
+        onRemoved(task);
+        onAdded(task);
+    }
+
+    /**
+     * 태그가 있는 과제 (대소문자 구분 없음)
+     */
+    public Set<Task> tasksWithTag(String tag) {
+        int folded = TagDictionary.shared().findFolded(tag);
+        Set<Task> bucket = folded < 0 ? null : buckets.get(folded);
+        return bucket == null ? Collections.emptySet() : Collections.unmodifiableSet(bucket);
+    }
+}
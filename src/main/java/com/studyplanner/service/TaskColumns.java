@@ -0,0 +1,281 @@
+package com.studyplanner.service;
+
+import com.studyplanner.AppConfig;
+import com.studyplanner.model.Priority;
+import com.studyplanner.model.TagDictionary;
+import com.studyplanner.model.Task;
+import com.studyplanner.model.TaskId;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * 통계용 열(column) 저장소
+ * 과제 목록을 열 배열(id, 마감일, 우선순위, 완료 여부, 태그)로 복제해 두고 집계는 배열을 훑는 반복문으로 처리
+ * (과제 객체를 따라가지 않으므로 과제가 많아도 빠름, 행이 많으면 ForkJoin으로 나누어 집계)
+ *
+ * 행은 [0, size)에 빈틈없이 유지 (삭제하면 마지막 행을 그 자리로 옮김)
+ * 과제 → 행 위치는 id 열을 키로 하는 int 배열 해시 테이블로 찾음 (목록 안의 과제 id는 서로 다름)
+ * 갱신과 집계 모두 UI 스레드에서 호출 (병렬 집계는 호출한 스레드가 끝날 때까지 기다림)
+ */
+public class TaskColumns implements TaskIndex {
+    private static final int NULL_DATE = Integer.MIN_VALUE;
+    private static final byte NULL_PRIORITY = -1;
+    private static final int[] NO_TAGS = new int[0];
+    private static final int INITIAL_CAPACITY = 64;
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private long[] idHighs = new long[INITIAL_CAPACITY];
+    private long[] idLows = new long[INITIAL_CAPACITY];
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    // 우선순위 ordinal (없으면 NULL_PRIORITY)
+    private byte[] priorities = new byte[INITIAL_CAPACITY];
+    private final BitSet completed = new BitSet();
+    // 행별 태그의 folded id (대소문자 무시)
+    private int[][] tagIds = new int[INITIAL_CAPACITY][];
+    // id → 행 (선형 탐사, 값은 행 + 1, 0이면 빈 칸, 크기는 항상 행 용량의 2배)
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+    private int size;
+
+    @Override
+    public void onAdded(Task task) {
+        if (size == epochDays.length) {
+            grow();
+        }
+        int row = size++;
+        TaskId id = task.getTaskId();
+        idHighs[row] = id.getHigh();
+        idLows[row] = id.getLow();
+        insertSlot(row);
+        write(row, task);
+    }
+
+    @Override
+    public void onRemoved(Task task) {
+        TaskId id = task.getTaskId();
+        int slot = findSlot(id.getHigh(), id.getLow());
+        if (slot < 0) {
+            return;
+        }
+        int row = slots[slot] - 1;
+        deleteSlot(slot);
+        int last = --size;
+        if (row != last) {
+            // 마지막 행을 빈 자리로 이동
+            idHighs[row] = idHighs[last];
+            idLows[row] = idLows[last];
+            epochDays[row] = epochDays[last];
+            priorities[row] = priorities[last];
+            completed.set(row, completed.get(last));
+            tagIds[row] = tagIds[last];
+            slots[findSlot(idHighs[row], idLows[row])] = row + 1;
+        }
+        tagIds[last] = null;
+        completed.clear(last);
+    }
+
+    @Override
+    public void onChanged(Task task) {
+        TaskId id = task.getTaskId();
+        int slot = findSlot(id.getHigh(), id.getLow());
+        if (slot >= 0) {
+            write(slots[slot] - 1, task);
+        }
+    }
+
+    private void write(int row, Task task) {
+        LocalDate dueDate = task.getDueDate();
+        epochDays[row] = dueDate == null ? NULL_DATE : (int) dueDate.toEpochDay();
+        priorities[row] = task.getPriority() == null ? NULL_PRIORITY : (byte) task.getPriority().ordinal();
+        completed.set(row, task.isCompleted());
+        int[] folded = task.getFoldedTagIds();
+        // 대소문자만 다른 태그는 한 번만 셈
+        tagIds[row] = folded.length == 0 ? NO_TAGS : Arrays.stream(folded).distinct().toArray();
+    }
+
+    private void grow() {
+        int capacity = epochDays.length * 2;
+        idHighs = Arrays.copyOf(idHighs, capacity);
+        idLows = Arrays.copyOf(idLows, capacity);
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+        tagIds = Arrays.copyOf(tagIds, capacity);
+        slots = new int[capacity * 2];
+        for (int row = 0; row < size; row++) {
+            insertSlot(row);
+        }
+    }
+
+    private int home(long high, long low) {
+        long hash = (high ^ Long.rotateLeft(low, 32)) * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & (slots.length - 1);
+    }
+
+    private void insertSlot(int row) {
+        int mask = slots.length - 1;
+        int slot = home(idHighs[row], idLows[row]);
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = row + 1;
+    }
+
+    /**
+     * id가 있는 칸 위치 (없으면 -1)
+     */
+    private int findSlot(long high, long low) {
+        int mask = slots.length - 1;
+        for (int slot = home(high, low); slots[slot] != 0; slot = (slot + 1) & mask) {
+            int row = slots[slot] - 1;
+            if (idHighs[row] == high && idLows[row] == low) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 칸을 비우고 뒤따르는 칸을 당겨서 탐사가 끊기지 않게 함
+     */
+    private void deleteSlot(int slot) {
+        int mask = slots.length - 1;
+        int hole = slot;
+        slots[hole] = 0;
+        for (int next = (hole + 1) & mask; slots[next] != 0; next = (next + 1) & mask) {
+            int row = slots[next] - 1;
+            int home = home(idHighs[row], idLows[row]);
+            // home이 (hole, next] 안에 있으면 그대로 두어도 찾을 수 있음
+            boolean reachable = hole <= next
+                    ? home > hole && home <= next
+                    : home > hole || home <= next;
+            if (!reachable) {
+                slots[hole] = slots[next];
+                slots[next] = 0;
+                hole = next;
+            }
+        }
+    }
+
+    /**
+     * 행 수 (목록의 과제 수)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 주별 완료율 (firstWeek부터 7일 단위, 마감일 기준, 과제가 없는 주는 0)
+     */
+    public double[] completionRateByWeek(LocalDate firstWeek, int weeks) {
+        long start = firstWeek.toEpochDay();
+        int[] days = epochDays;
+        // 주마다 [전체, 완료] 두 칸
+        int[] counts = histogram(weeks * 2, (row, bins) -> {
+            if (days[row] == NULL_DATE || days[row] < start) {
+                return;
+            }
+            long week = (days[row] - start) / 7;
+            if (week < weeks) {
+                bins[(int) week * 2 + (completed.get(row) ? 1 : 0)]++;
+            }
+        });
+
+        double[] rates = new double[weeks];
+        for (int week = 0; week < weeks; week++) {
+            int total = counts[week * 2] + counts[week * 2 + 1];
+            rates[week] = total == 0 ? 0.0 : (double) counts[week * 2 + 1] / total;
+        }
+        return rates;
+    }
+
+    /**
+     * 일별 마감 부하 (from부터 days일 동안 날짜별 미완료 과제 수)
+     */
+    public int[] loadPerDay(LocalDate from, int days) {
+        long start = from.toEpochDay();
+        int[] epochs = epochDays;
+        return histogram(days, (row, bins) -> {
+            if (epochs[row] == NULL_DATE || completed.get(row)) {
+                return;
+            }
+            long day = epochs[row] - start;
+            if (day >= 0 && day < days) {
+                bins[(int) day]++;
+            }
+        });
+    }
+
+    /**
+     * 우선순위별 연체 과제 수 (Priority ordinal 위치, today 이전 마감의 미완료 과제)
+     */
+    public int[] overdueByPriority(LocalDate today) {
+        long todayEpoch = today.toEpochDay();
+        int[] epochs = epochDays;
+        byte[] ranks = priorities;
+        return histogram(PRIORITIES.length, (row, bins) -> {
+            if (ranks[row] != NULL_PRIORITY && epochs[row] != NULL_DATE
+                    && epochs[row] < todayEpoch && !completed.get(row)) {
+                bins[ranks[row]]++;
+            }
+        });
+    }
+
+    /**
+     * 태그별 미완료 과제 수 (folded id 위치, 대소문자 무시)
+     */
+    public int[] openTasksByTag() {
+        int[][] tags = tagIds;
+        return histogram(TagDictionary.shared().size(), (row, bins) -> {
+            if (completed.get(row)) {
+                return;
+            }
+            for (int tag : tags[row]) {
+                bins[tag]++;
+            }
+        });
+    }
+
+    /**
+     * 행 하나를 집계 칸에 더하는 함수
+     */
+    @FunctionalInterface
+    private interface RowCounter {
+        void count(int row, int[] bins);
+    }
+
+    private int[] histogram(int bins, RowCounter counter) {
+        int chunk = AppConfig.COLUMNS_PARALLEL_THRESHOLD;
+        if (size < chunk) {
+            return count(bins, counter, 0, size);
+        }
+
+        // 조각마다 공용 ForkJoin 풀에서 집계한 뒤 합침
+        List<ForkJoinTask<int[]>> parts = new ArrayList<>();
+        for (int from = 0; from < size; from += chunk) {
+            int start = from;
+            int end = Math.min(size, from + chunk);
+            parts.add(ForkJoinPool.commonPool().submit(() -> count(bins, counter, start, end)));
+        }
+        int[] counts = new int[bins];
+        for (ForkJoinTask<int[]> part : parts) {
+            int[] partCounts = part.join();
+            for (int i = 0; i < bins; i++) {
+                counts[i] += partCounts[i];
+            }
+        }
+        return counts;
+    }
+
+    private static int[] count(int bins, RowCounter counter, int from, int to) {
+        int[] counts = new int[bins];
+        for (int row = from; row < to; row++) {
+            counter.count(row, counts);
+        }
+        return counts;
+    }
+}
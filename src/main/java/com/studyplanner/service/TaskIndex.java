@@ -0,0 +1,25 @@
+package com.studyplanner.service;
+
+import com.studyplanner.model.Task;
+
+/**
+ * 과제 목록 보조 색인
+ * TaskService가 목록 변경과 과제 속성 변경을 알려주며, 색인은 필요한 부분만 갱신
+ */
+public interface TaskIndex {
+
+    /**
+     * 과제가 목록에 추가됨
+     */
+    void onAdded(Task task);
+
+    /**
+     * 과제가 목록에서 제거됨
+     */
+    void onRemoved(Task task);
+
+    /**
+     * 목록 안의 과제 속성이나 태그가 바뀜
+     */
+    void onChanged(Task task);
+}
@@ -0,0 +1,348 @@
+package com.studyplanner.service;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.studyplanner.model.Task;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 과제 변경 저널
+ * 한 줄에 하나씩 {"op":"...","id":"...","task":{...}} 형식으로 변경 기록을 추가
+ */
+public class TaskJournal {
+    private final Path file;
+    private final TaskTypeAdapter taskAdapter;
+
+    // 마지막 스냅샷 이후 저널에 쌓인 레코드 수 (쓰기 스레드에서 갱신)
+    private volatile int entryCount;
+    // 손상된 레코드가 남아 있음 (스냅샷으로 정리해야 함)
+    private volatile boolean damaged;
+
+    /**
+     * @param externalNotes 메모를 따로 보관하는 저장소 (null이면 레코드에 메모 포함)
+     */
+    public TaskJournal(Path file, Task.NotesLoader externalNotes) {
+        this.file = file;
+        this.taskAdapter = new TaskTypeAdapter(externalNotes);
+    }
+
+    /**
+     * 저널 파일 존재 여부
+     */
+    public boolean exists() {
+        return Files.exists(file);
+    }
+
+    /**
+     * 마지막 스냅샷 이후 기록된 레코드 수
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * 손상된 부분을 복구하지 못해 스냅샷으로 정리해야 하는지 확인
+     */
+    public boolean isDamaged() {
+        return damaged;
+    }
+
+    /**
+     * 여러 변경 기록을 한 번의 쓰기로 저널 끝에 추가
+     */
+    public void append(List<TaskMutation> mutations) throws IOException {
+        if (mutations.isEmpty()) {
+            return;
+        }
+
+        StringWriter lines = new StringWriter();
+        for (TaskMutation mutation : mutations) {
+            JsonWriter out = new JsonWriter(lines);
+            out.beginObject();
+            out.name("op").value(mutation.getType().name());
+            out.name("id").value(mutation.getTaskId());
+            if (mutation.getTask() != null) {
+                out.name("task");
+                taskAdapter.write(out, mutation.getTask());
+            }
+            out.endObject();
+            out.flush();
+            lines.write('\n');
+        }
+
+        ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            if (AtomicFileWriter.defaultDurability() != AtomicFileWriter.Durability.NONE) {
+                channel.force(false);
+            }
+        }
+        entryCount += mutations.size();
+    }
+
+    /**
+     * 스냅샷에 모든 변경이 반영된 뒤 저널 비우기
+     */
+    public void clear() throws IOException {
+        Files.deleteIfExists(file);
+        entryCount = 0;
+        damaged = false;
+    }
+
+    /**
+     * 저널을 읽어 재적용 준비
+     * 저널은 압축 주기만큼만 쌓이므로 id별 최종 상태로 먼저 접어두고,
+     * 반환된 Replay에 스냅샷 과제를 순서대로 넘기면 저널 상태가 반영되어 consumer로 전달됨
+     */
+    public Replay replay(int batchSize, Consumer<List<Task>> consumer) {
+        Map<String, FinalState> overrides = new LinkedHashMap<>();
+        entryCount = readInto(overrides);
+        return new Replay(batchSize, consumer, overrides);
+    }
+
+    /**
+     * 저널을 읽어 id별 최종 상태로 접기
+     * 비정상 종료로 마지막 줄이 잘린 경우 이후 추가되는 레코드가 잘린 줄에 이어 붙지 않도록
+     * 파일을 마지막 줄 앞까지 잘라냄
+     * 중간의 손상된 줄은 건너뛰고 다음 스냅샷에서 정리 (뒤의 정상 레코드는 그대로 반영)
+     *
+     * @return 읽은 레코드 수
+     */
+    private int readInto(Map<String, FinalState> overrides) {
+        if (!exists()) {
+            return 0;
+        }
+
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(file);
+        } catch (IOException e) {
+            System.err.println("저널 로드 실패: " + e.getMessage());
+            return 0;
+        }
+
+        int count = 0;
+        int lineStart = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != '\n') {
+                continue;
+            }
+            String line = new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8);
+            lineStart = i + 1;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            Record record;
+            try {
+                record = readRecord(line);
+            } catch (IOException | IllegalStateException | JsonParseException e) {
+                System.err.println("손상된 저널 레코드를 건너뜁니다: " + e.getMessage());
+                damaged = true;
+                continue;
+            }
+            if (record.op == null || record.id == null) {
+                continue;
+            }
+            fold(overrides, record);
+            count++;
+        }
+
+        // 줄바꿈으로 끝나지 않은 마지막 줄은 기록 도중 중단된 레코드
+        if (lineStart < bytes.length) {
+            truncate(lineStart);
+        }
+
+        if (count > 0) {
+            System.out.println(count + "개의 저널 레코드를 재적용했습니다.");
+        }
+        return count;
+    }
+
+    /**
+     * 레코드 하나를 id별 최종 상태에 반영
+     */
+    private static void fold(Map<String, FinalState> overrides, Record record) {
+        FinalState existing = overrides.get(record.id);
+        switch (record.op) {
+            case ADD:
+            case UPDATE:
+                if (record.task == null) {
+                    break;
+                }
+                if (existing != null && existing.task == null) {
+                    // 삭제 후 다시 추가: 목록 끝으로 이동
+                    overrides.remove(record.id);
+                    overrides.put(record.id, new FinalState(record.task, false));
+                } else if (existing != null) {
+                    existing.task = record.task;
+                } else {
+                    overrides.put(record.id, new FinalState(record.task, true));
+                }
+                break;
+            case DELETE:
+                overrides.remove(record.id);
+                overrides.put(record.id, new FinalState(null, false));
+                break;
+        }
+    }
+
+    /**
+     * 기록 도중 중단된 마지막 줄을 잘라내 저널을 줄바꿈으로 끝나게 함
+     */
+    private void truncate(long size) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+            if (AtomicFileWriter.defaultDurability() != AtomicFileWriter.Durability.NONE) {
+                channel.force(false);
+            }
+            System.err.println("저널의 손상된 부분을 잘라냈습니다. (" + size + "바이트까지 유지)");
+        } catch (IOException e) {
+            // 잘라내지 못하면 다음 저장 때 스냅샷으로 정리 (스냅샷 후 저널 삭제)
+            System.err.println("저널 복구 실패: " + e.getMessage());
+            damaged = true;
+        }
+    }
+
+    /**
+     * 저널 한 줄 파싱
+     */
+    private Record readRecord(String line) throws IOException {
+        Record record = new Record();
+        try (JsonReader reader = new JsonReader(new StringReader(line))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                switch (name) {
+                    case "op":
+                        record.op = TaskMutation.Type.valueOf(reader.nextString());
+                        break;
+                    case "id":
+                        record.id = reader.nextString();
+                        break;
+                    case "task":
+                        record.task = taskAdapter.read(reader);
+                        break;
+                    default:
+                        reader.skipValue();
+                        break;
+                }
+            }
+            reader.endObject();
+        } catch (IllegalArgumentException e) {
+            throw new JsonParseException("알 수 없는 저널 레코드: " + line, e);
+        }
+        return record;
+    }
+
+    /**
+     * 스냅샷 과제에 저널 상태를 반영하면서 batchSize개씩 묶어 전달
+     */
+    public static class Replay {
+        private final int batchSize;
+        private final Consumer<List<Task>> consumer;
+        private final Map<String, FinalState> overrides;
+        private List<Task> batch;
+        private int count;
+        private int snapshotTaskCount;
+
+        private Replay(int batchSize, Consumer<List<Task>> consumer, Map<String, FinalState> overrides) {
+            this.batchSize = batchSize;
+            this.consumer = consumer;
+            this.overrides = overrides;
+            this.batch = new ArrayList<>(Math.min(batchSize, 1024));
+        }
+
+        /**
+         * 스냅샷에서 읽은 과제 전달 (저널로 수정/삭제된 경우 반영)
+         */
+        public void acceptSnapshotTask(Task task) {
+            snapshotTaskCount++;
+            FinalState override = overrides.get(task.getId());
+            if (override != null) {
+                // 삭제되었거나 삭제 후 다시 추가된 과제는 여기서 건너뜀
+                if (override.task == null || !override.inPlace) {
+                    return;
+                }
+                task = override.task;
+                override.emitted = true;
+            }
+            emit(task);
+        }
+
+        /**
+         * 지금까지 전달받은 스냅샷 과제 수
+         */
+        public int getSnapshotTaskCount() {
+            return snapshotTaskCount;
+        }
+
+        /**
+         * 스냅샷에 없던 과제(저널로 새로 추가된 과제)까지 전달하고 마무리
+         *
+         * @return 전달한 과제 수
+         */
+        public int finish() {
+            for (FinalState override : overrides.values()) {
+                if (override.task != null && !override.emitted) {
+                    emit(override.task);
+                }
+            }
+            if (!batch.isEmpty()) {
+                consumer.accept(batch);
+                batch = new ArrayList<>();
+            }
+            return count;
+        }
+
+        private void emit(Task task) {
+            batch.add(task);
+            count++;
+            if (batch.size() >= batchSize) {
+                consumer.accept(batch);
+                batch = new ArrayList<>(Math.min(batchSize, 1024));
+            }
+        }
+    }
+
+    /**
+     * 저널 한 줄에 해당하는 레코드
+     */
+    private static class Record {
+        TaskMutation.Type op;
+        String id;
+        Task task;
+    }
+
+    /**
+     * 저널을 접은 결과: 과제 하나의 최종 상태
+     */
+    private static class FinalState {
+        // 최종 과제 (삭제된 경우 null)
+        Task task;
+        // 스냅샷의 원래 위치를 유지하는지 여부
+        final boolean inPlace;
+        boolean emitted;
+
+        FinalState(Task task, boolean inPlace) {
+            this.task = task;
+            this.inPlace = inPlace;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.studyplanner.service;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.studyplanner.model.Task;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 과제 목록 JSON 배열 형식 읽기/쓰기
+ * 저장소 구현과 무관하게 가져오기/내보내기에도 사용
+ * 파일은 항상 UTF-8로 기록 (예전에 플랫폼 기본 문자셋으로 기록한 파일도 읽을 수 있음)
+ */
+public class TaskJsonFormat {
+    private static final TaskTypeAdapter TASK_ADAPTER = new TaskTypeAdapter();
+
+    /**
+     * JSON 배열을 레코드 단위로 읽어 sink에 전달
+     */
+    public static void read(Path file, Consumer<Task> sink) throws IOException {
+        read(file, sink, null);
+    }
+
+    /**
+     * JSON 배열을 레코드 단위로 읽어 sink에 전달 (메모는 externalNotes에서 지연 로드)
+     */
+    public static void read(Path file, Consumer<Task> sink, Task.NotesLoader externalNotes) throws IOException {
+        TaskTypeAdapter adapter = externalNotes == null ? TASK_ADAPTER : new TaskTypeAdapter(externalNotes);
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(file, charsetOf(file)))) {
+            if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+                return;
+            }
+            reader.beginArray();
+            while (reader.hasNext()) {
+                Task task = adapter.read(reader);
+                if (task != null) {
+                    sink.accept(task);
+                }
+            }
+            reader.endArray();
+        } catch (IllegalStateException | JsonParseException e) {
+            throw new IOException("JSON 형식 오류: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 과제 목록을 JSON 배열로 기록 (pretty가 true면 들여쓰기)
+     */
+    public static void write(List<Task> tasks, Path file, boolean pretty) throws IOException {
+        write(tasks, file, pretty, null);
+    }
+
+    /**
+     * 과제 목록을 JSON 배열로 기록 (externalNotes가 있으면 메모는 기록하지 않음)
+     */
+    public static void write(List<Task> tasks, Path file, boolean pretty, Task.NotesLoader externalNotes)
+            throws IOException {
+        TaskTypeAdapter adapter = externalNotes == null ? TASK_ADAPTER : new TaskTypeAdapter(externalNotes);
+        try (JsonWriter out = new JsonWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            if (pretty) {
+                out.setIndent("  ");
+            }
+            out.beginArray();
+            for (Task task : tasks) {
+                adapter.write(out, task);
+            }
+            out.endArray();
+        }
+    }
+
+    /**
+     * 파일을 읽을 문자셋 (UTF-8로 읽을 수 없는 예전 파일은 플랫폼 기본 문자셋)
+     */
+    private static Charset charsetOf(Path file) throws IOException {
+        Charset platform = Charset.defaultCharset();
+        if (platform.equals(StandardCharsets.UTF_8)) {
+            return StandardCharsets.UTF_8;
+        }
+
+        // 잘못된 바이트를 만나면 예외를 던지는 디코더로 끝까지 읽어 확인
+        char[] buffer = new char[8192];
+        try (Reader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(file),
+                StandardCharsets.UTF_8.newDecoder()))) {
+            while (reader.read(buffer) >= 0) {
+                // 확인만 함
+            }
+            return StandardCharsets.UTF_8;
+        } catch (CharacterCodingException e) {
+            return platform;
+        }
+    }
+
+    /**
+     * JSON 파일로 내보내기
+     */
+    public static void exportTasks(List<Task> tasks, Path file, boolean pretty) {
+        try {
+            write(tasks, file, pretty);
+            System.out.println(tasks.size() + "개의 과제를 내보냈습니다: " + file);
+        } catch (IOException e) {
+            System.err.println("과제 내보내기 실패: " + e.getMessage());
+            throw new RuntimeException("과제를 내보낼 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * JSON 파일에서 과제 가져오기
+     */
+    public static List<Task> importTasks(Path file) {
+        List<Task> tasks = new ArrayList<>();
+        try {
+            read(file, tasks::add);
+        } catch (IOException e) {
+            System.err.println("과제 가져오기 실패: " + e.getMessage());
+            throw new RuntimeException("과제를 가져올 수 없습니다.", e);
+        }
+        return tasks;
+    }
+}
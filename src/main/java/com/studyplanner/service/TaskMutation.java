@@ -0,0 +1,88 @@
+package com.studyplanner.service;
+
+import com.studyplanner.model.Task;
+import com.studyplanner.model.TaskId;
+
+/**
+ * 과제 단건 변경 기록
+ * 저널에 추가(append)되는 단위이며 Task id를 키로 사용
+ */
+public class TaskMutation {
+
+    /**
+     * 변경 종류
+     */
+    public enum Type {
+        ADD,
+        UPDATE,
+        DELETE
+    }
+
+    private final Type type;
+    private final TaskId taskId;
+    private final Task task;
+
+    private TaskMutation(Type type, TaskId taskId, Task task) {
+        this.type = type;
+        this.taskId = taskId;
+        this.task = task;
+    }
+
+    /**
+     * 과제 추가 기록
+     */
+    public static TaskMutation add(Task task) {
+        return new TaskMutation(Type.ADD, task.getTaskId(), task);
+    }
+
+    /**
+     * 과제 수정 기록
+     */
+    public static TaskMutation update(Task task) {
+        return new TaskMutation(Type.UPDATE, task.getTaskId(), task);
+    }
+
+    /**
+     * 과제 삭제 기록 (id만 보관)
+     */
+    public static TaskMutation delete(String taskId) {
+        return delete(TaskId.parse(taskId));
+    }
+
+    /**
+     * 과제 삭제 기록 (id만 보관)
+     */
+    public static TaskMutation delete(TaskId taskId) {
+        return new TaskMutation(Type.DELETE, taskId, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * 과제 id 문자열 (저널/메모 파일 기록용)
+     */
+    public String getTaskId() {
+        return taskId.toString();
+    }
+
+    /**
+     * 과제 id (색인/조회용)
+     */
+    public TaskId getId() {
+        return taskId;
+    }
+
+    /**
+     * 변경된 과제 (DELETE인 경우 null)
+     */
+    public Task getTask() {
+        return task;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TaskMutation[%s: %s]", type, taskId);
+    }
+}
@@ -0,0 +1,266 @@
+package com.studyplanner.service;
+
+import com.studyplanner.model.Priority;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 과제 검색 질의
+ * 공백으로 구분한 조건을 모두 만족하는(AND) 과제를 찾음
+ *
+ * <pre>
+ * 자바                 제목/태그에 "자바" 포함
+ * tag:수학             태그가 "수학"
+ * priority:HIGH        우선순위 (HIGH/MEDIUM/LOW 또는 높음/보통/낮음)
+ * due:2026-11-01       마감일 (due&lt;, due&lt;=, due&gt;, due&gt;= 로 범위, 날짜 대신 today 사용 가능)
+ * is:done / -is:done   완료 / 미완료 (-done도 미완료, "done"만 쓰면 일반 검색어)
+ * id:...               과제 id
+ * -조건                조건을 만족하지 않음
+ * </pre>
+ */
+public class TaskQuery {
+
+    /**
+     * 조건 종류
+     */
+    public enum Field {
+        TEXT,
+        ID,
+        TAG,
+        PRIORITY,
+        DUE,
+        DONE
+    }
+
+    /**
+     * 조건 하나 (질의 구문 트리의 잎)
+     */
+    public static class Term {
+        private final Field field;
+        private final boolean negated;
+        private final String text;
+        private final Priority priority;
+        private final LocalDate from;
+        private final LocalDate to;
+        private final boolean done;
+
+        private Term(Field field, boolean negated, String text, Priority priority,
+                     LocalDate from, LocalDate to, boolean done) {
+            this.field = field;
+            this.negated = negated;
+            this.text = text;
+            this.priority = priority;
+            this.from = from;
+            this.to = to;
+            this.done = done;
+        }
+
+        public Field getField() {
+            return field;
+        }
+
+        /**
+         * 조건을 만족하지 않는 과제를 찾는지 여부
+         */
+        public boolean isNegated() {
+            return negated;
+        }
+
+        /**
+         * TEXT(소문자), ID, TAG 조건의 값
+         */
+        public String getText() {
+            return text;
+        }
+
+        public Priority getPriority() {
+            return priority;
+        }
+
+        /**
+         * DUE 조건의 시작일 (포함, 제한 없으면 LocalDate.MIN)
+         */
+        public LocalDate getFrom() {
+            return from;
+        }
+
+        /**
+         * DUE 조건의 종료일 (포함, 제한 없으면 LocalDate.MAX)
+         */
+        public LocalDate getTo() {
+            return to;
+        }
+
+        /**
+         * DONE 조건: true면 완료, false면 미완료
+         */
+        public boolean isDone() {
+            return done;
+        }
+
+        @Override
+        public String toString() {
+            String value;
+            switch (field) {
+                case PRIORITY:
+                    value = priority.name();
+                    break;
+                case DUE:
+                    value = from + ".." + to;
+                    break;
+                case DONE:
+                    value = String.valueOf(done);
+                    break;
+                default:
+                    value = text;
+            }
+            return (negated ? "-" : "") + field.name().toLowerCase() + ":" + value;
+        }
+    }
+
+    private final List<Term> terms;
+
+    private TaskQuery(List<Term> terms) {
+        this.terms = Collections.unmodifiableList(terms);
+    }
+
+    /**
+     * 조건 목록 (모두 만족해야 함)
+     */
+    public List<Term> getTerms() {
+        return terms;
+    }
+
+    /**
+     * 제목/태그 검색어 외의 조건이 있는지 확인
+     */
+    public boolean hasFieldTerms() {
+        for (Term term : terms) {
+            if (term.getField() != Field.TEXT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 질의 문자열 파싱 ("today"는 today로 해석)
+     *
+     * @throws IllegalArgumentException 조건 값이 잘못된 경우 (날짜, 우선순위)
+     */
+    public static TaskQuery parse(String query, LocalDate today) {
+        List<Term> terms = new ArrayList<>();
+        if (query == null) {
+            return new TaskQuery(terms);
+        }
+
+        for (String token : query.trim().split("\\s+")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            boolean negated = token.length() > 1 && token.startsWith("-");
+            String body = negated ? token.substring(1) : token;
+            terms.add(parseTerm(token, body, negated, today));
+        }
+        return new TaskQuery(terms);
+    }
+
+    private static Term parseTerm(String token, String body, boolean negated, LocalDate today) {
+        String lower = body.toLowerCase();
+        if (lower.equals("is:done") || (negated && lower.equals("done"))) {
+            // -is:done, -done은 미완료 조건 (색인으로 바로 찾을 수 있도록 부정 대신 값으로 표현)
+            return new Term(Field.DONE, false, null, null, null, null, !negated);
+        }
+        if (lower.startsWith("id:") && body.length() > 3) {
+            return new Term(Field.ID, negated, body.substring(3), null, null, null, false);
+        }
+        if (lower.startsWith("tag:") && body.length() > 4) {
+            return new Term(Field.TAG, negated, body.substring(4).toLowerCase(), null, null, null, false);
+        }
+        if (lower.startsWith("priority:") && body.length() > 9) {
+            return new Term(Field.PRIORITY, negated, null, parsePriority(token, body.substring(9)), null, null, false);
+        }
+        if (lower.startsWith("due") && body.length() > 3) {
+            Term due = parseDue(token, body.substring(3), negated, today);
+            if (due != null) {
+                return due;
+            }
+        }
+        // 알 수 없는 조건은 일반 검색어로 처리
+        return new Term(Field.TEXT, negated, lower, null, null, null, false);
+    }
+
+    private static Priority parsePriority(String token, String value) {
+        for (Priority priority : Priority.values()) {
+            if (priority.name().equalsIgnoreCase(value) || priority.getDisplayName().equals(value)) {
+                return priority;
+            }
+        }
+        throw new IllegalArgumentException("잘못된 우선순위입니다: " + token);
+    }
+
+    /**
+     * due 뒤의 연산자와 날짜 파싱 (연산자가 없으면 null)
+     */
+    private static Term parseDue(String token, String rest, boolean negated, LocalDate today) {
+        String[] operators = {"<=", ">=", "<", ">", ":", "="};
+        for (String operator : operators) {
+            if (!rest.startsWith(operator)) {
+                continue;
+            }
+            LocalDate date = parseDate(token, rest.substring(operator.length()), today);
+            LocalDate from = LocalDate.MIN;
+            LocalDate to = LocalDate.MAX;
+            switch (operator) {
+                case "<=":
+                    to = date;
+                    break;
+                case ">=":
+                    from = date;
+                    break;
+                case "<":
+                    // 표현할 수 있는 가장 이른/늦은 날짜를 넘어가면 빈 범위 (from > to)
+                    if (date.equals(LocalDate.MIN)) {
+                        from = LocalDate.MAX;
+                        to = LocalDate.MIN;
+                    } else {
+                        to = date.minusDays(1);
+                    }
+                    break;
+                case ">":
+                    if (date.equals(LocalDate.MAX)) {
+                        from = LocalDate.MAX;
+                        to = LocalDate.MIN;
+                    } else {
+                        from = date.plusDays(1);
+                    }
+                    break;
+                default:
+                    from = date;
+                    to = date;
+            }
+            return new Term(Field.DUE, negated, null, null, from, to, false);
+        }
+        return null;
+    }
+
+    private static LocalDate parseDate(String token, String value, LocalDate today) {
+        if (value.equalsIgnoreCase("today")) {
+            return today;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 날짜입니다: " + token, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TaskQuery" + terms;
+    }
+}
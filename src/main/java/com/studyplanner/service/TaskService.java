@@ -1,16 +1,38 @@
 package com.studyplanner.service;
 
+import com.studyplanner.AppConfig;
 import com.studyplanner.model.Priority;
+import com.studyplanner.model.TagDictionary;
 import com.studyplanner.model.Task;
+import com.studyplanner.model.TaskId;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyLongProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 /**
@@ -19,15 +41,88 @@ import java.util.function.Predicate;
  */
 public class TaskService {
     private final ObservableList<Task> tasks;
+    // 가장 급한 과제 (AppConfig.NEXT_TASKS_COUNT개, 급한 순)
+    private final ObservableList<Task> nextTasks = FXCollections.observableArrayList();
     private final FilteredList<Task> filteredTasks;
     private final SortedList<Task> sortedTasks;
-    private final StorageService storageService;
+    private final StorageBackend backend;
+    private final BackgroundSaver saver;
+    private final BackgroundSearcher searcher;
+    private final ClockService clock;
+    private final Executor uiExecutor;
+    // id → 과제 색인 (tasks 목록 변경 시 함께 갱신)
+    private final Map<TaskId, Task> tasksById = new HashMap<>();
+    // 보조 색인 (목록 변경과 과제 속성 변경 시 함께 갱신)
+    private final DueDateIndex dueDateIndex = new DueDateIndex();
+    private final SearchIndex searchIndex = new SearchIndex();
+    private final TagIndex tagIndex = new TagIndex();
+    private final ValueIndex<Boolean> completionIndex = new ValueIndex<>(Task::isCompleted);
+    private final ValueIndex<Priority> priorityIndex = new ValueIndex<>(Task::getPriority);
+    private final UrgencyQueue urgencyQueue = new UrgencyQueue();
+    // 전체, 태그별(소문자 태그), 우선순위별 통계
+    private final TaskStatistics statistics;
+    // 통계 집계용 열 저장소
+    private final TaskColumns columns = new TaskColumns();
+    private final List<TaskIndex> indexes = new ArrayList<>();
+    private final QueryPlanner planner;
+
+    // 색인으로 계산한 현재 필터 결과와 조건 (색인 필터가 아니면 null)
+    private Set<Task> indexedFilterMatches;
+    private Predicate<Task> indexedFilterCondition;
+
+    // 아직 저장소에 전달하지 않은 변경 (과제 → 변경 종류, 발생 순서 유지)
+    private final Map<Task, TaskMutation.Type> pendingChanges = new LinkedHashMap<>();
+    // 0보다 크면 변경을 모아 두었다가 일괄 작업이 끝날 때 한 번에 저장
+    private int changeBatchDepth;
+    // 저장소에서 로드하는 중에는 변경으로 기록하지 않음
+    private boolean loading;
+    // 먼저 로드한 범위 밖의 과제를 아직 받는 중 (그동안 전체 스냅샷은 저장하지 않음)
+    private boolean remainingLoadPending;
+    // 나머지 로드 중에 요청되어 로드가 끝난 뒤 저장할 전체 스냅샷
+    private boolean snapshotDeferred;
+    // 목록 전체를 다시 채우거나 비울 때마다 증가 (이전 로드의 나머지 과제는 버림)
+    private int loadGeneration;
+    // 현재 필터가 오늘 날짜에 따라 달라지면 날짜가 바뀔 때 다시 적용할 작업 (아니면 null)
+    private Runnable dateDependentFilter;
+
+    public TaskService(StorageBackend backend) {
+        this(backend, Platform::runLater);
+    }
+
+    /**
+     * @param uiExecutor 백그라운드 검색 결과를 적용할 스레드 (JavaFX 애플리케이션 스레드)
+     */
+    public TaskService(StorageBackend backend, Executor uiExecutor) {
+        this(backend, uiExecutor, ClockService.startSystemClock(uiExecutor));
+    }
 
-    public TaskService(StorageService storageService) {
-        this.storageService = storageService;
+    /**
+     * @param clock 오늘 날짜 서비스 (테스트에서는 가짜 Clock 사용)
+     */
+    public TaskService(StorageBackend backend, Executor uiExecutor, ClockService clock) {
+        this.backend = backend;
+        this.clock = clock;
+        this.uiExecutor = uiExecutor;
+        this.statistics = new TaskStatistics(clock.today());
+        this.saver = new BackgroundSaver(backend, AppConfig.SAVE_COALESCE_MILLIS);
+        this.searcher = new BackgroundSearcher(searchIndex, AppConfig.SEARCH_DEBOUNCE_MILLIS, uiExecutor);
+        this.indexes.add(dueDateIndex);
+        this.indexes.add(searchIndex);
+        this.indexes.add(tagIndex);
+        this.indexes.add(completionIndex);
+        this.indexes.add(priorityIndex);
+        this.indexes.add(urgencyQueue);
+        this.indexes.add(statistics);
+        this.indexes.add(columns);
         this.tasks = FXCollections.observableArrayList();
+        this.tasks.addListener(this::onTasksChanged);
         this.filteredTasks = new FilteredList<>(tasks, p -> true);
         this.sortedTasks = new SortedList<>(filteredTasks);
+        this.planner = new QueryPlanner(tasks, tasksById, dueDateIndex, tagIndex, completionIndex,
+                priorityIndex, searchIndex);
+
+        // 날짜가 바뀌면 날짜 기준 통계와 필터 다시 계산
+        clock.todayProperty().addListener((obs, oldDate, newDate) -> onDateChanged(newDate));
 
         // 저장소에서 과제 로드
         loadTasks();
@@ -35,17 +130,253 @@ public class TaskService {
 
     /**
      * 저장소에서 과제 로드
+     * 범위 로드를 지원하는 저장소는 이번 달 전후(AppConfig.SHARD_PRELOAD_MONTHS) 마감 과제만 먼저 로드하고,
+     * 나머지는 쓰기 스레드에서 읽어 UI 스레드에서 추가
      */
     public void loadTasks() {
-        List<Task> loadedTasks = storageService.loadTasks();
-        tasks.setAll(loadedTasks);
+        int generation = ++loadGeneration;
+        remainingLoadPending = false;
+        snapshotDeferred = false;
+        YearMonth month = YearMonth.from(clock.today());
+        LocalDate from = month.minusMonths(AppConfig.SHARD_PRELOAD_MONTHS).atDay(1);
+        LocalDate to = month.plusMonths(AppConfig.SHARD_PRELOAD_MONTHS).atEndOfMonth();
+        boolean ranged = backend.supportsRangeLoad();
+
+        loading = true;
+        try {
+            tasks.clear();
+            // 목록이 비었으므로 이전 로드에서 쌓인 태그를 버림
+            TagDictionary.reset();
+            if (ranged) {
+                backend.loadTasks(from, to, AppConfig.LOAD_BATCH_SIZE, tasks::addAll);
+            } else {
+                backend.loadTasks(AppConfig.LOAD_BATCH_SIZE, tasks::addAll);
+            }
+        } finally {
+            loading = false;
+            pendingChanges.clear();
+        }
+
+        if (ranged) {
+            remainingLoadPending = true;
+            saver.execute(() -> loadRemainingTasks(generation, from, to));
+        }
     }
 
     /**
-     * 과제 저장
+     * 쓰기 스레드에서 실행: 먼저 로드한 범위 밖의 과제를 읽어 UI 스레드로 전달
+     */
+    private void loadRemainingTasks(int generation, LocalDate from, LocalDate to) {
+        try {
+            backend.loadTasks(AppConfig.LOAD_BATCH_SIZE, batch -> {
+                List<Task> remaining = new ArrayList<>(batch.size());
+                for (Task task : batch) {
+                    LocalDate dueDate = task.getDueDate();
+                    if (dueDate == null || dueDate.isBefore(from) || dueDate.isAfter(to)) {
+                        remaining.add(task);
+                    }
+                }
+                if (!remaining.isEmpty()) {
+                    uiExecutor.execute(() -> addRemainingTasks(generation, remaining));
+                }
+            });
+            uiExecutor.execute(() -> finishRemainingLoad(generation));
+        } catch (RuntimeException e) {
+            // 받지 못한 과제가 지워지지 않도록 이번 실행에서는 전체 스냅샷을 저장하지 않음
+            System.err.println("나머지 과제 로드 실패: " + e.getMessage());
+        }
+    }
+
+    private void addRemainingTasks(int generation, List<Task> remaining) {
+        if (generation != loadGeneration) {
+            return;
+        }
+        loading = true;
+        try {
+            tasks.addAll(remaining);
+        } finally {
+            loading = false;
+        }
+    }
+
+    private void finishRemainingLoad(int generation) {
+        if (generation != loadGeneration) {
+            return;
+        }
+        remainingLoadPending = false;
+        if (snapshotDeferred) {
+            snapshotDeferred = false;
+            saveTasks();
+        }
+    }
+
+    /**
+     * 과제 저장 (백그라운드에서 기록)
+     * 나머지 과제를 아직 받는 중이면 변경 기록만 저장하고 전체 스냅샷은 로드가 끝난 뒤 저장
      */
     public void saveTasks() {
-        storageService.saveTasks(tasks);
+        if (remainingLoadPending) {
+            snapshotDeferred = true;
+            for (TaskMutation mutation : drainChanges()) {
+                saver.append(mutation);
+            }
+            return;
+        }
+
+        // 전체 스냅샷에 대기 중인 변경이 모두 포함됨
+        pendingChanges.clear();
+
+        List<Task> snapshot = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            snapshot.add(task.copy());
+        }
+        saver.saveSnapshot(snapshot);
+    }
+
+    /**
+     * 대기 중인 저장 요청을 모두 기록할 때까지 대기
+     */
+    public void flush() {
+        saver.flush();
+    }
+
+    /**
+     * 종료 시 전체 저장 후 쓰기 스레드 정리
+     */
+    public void close() {
+        searcher.shutdown();
+        clock.stop();
+        saveTasks();
+        saver.shutdown();
+        backend.close();
+    }
+
+    /**
+     * 목록에 추가/삭제된 과제의 색인 갱신, 변경 추적 연결 및 기록
+     * (add, remove, setAll, clear 등 목록을 바꾸는 모든 경로에서 호출됨)
+     */
+    private void onTasksChanged(ListChangeListener.Change<? extends Task> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            for (Task removed : change.getRemoved()) {
+                tasksById.remove(removed.getTaskId(), removed);
+                for (TaskIndex index : indexes) {
+                    index.onRemoved(removed);
+                }
+                if (indexedFilterMatches != null) {
+                    indexedFilterMatches.remove(removed);
+                }
+                removed.setChangeListener(null);
+                recordChange(removed, TaskMutation.Type.DELETE);
+            }
+            for (Task added : change.getAddedSubList()) {
+                tasksById.put(added.getTaskId(), added);
+                for (TaskIndex index : indexes) {
+                    index.onAdded(added);
+                }
+                updateIndexedFilterMatch(added);
+                added.setChangeListener(this::onTaskChanged);
+                recordChange(added, TaskMutation.Type.ADD);
+            }
+        }
+        publishStatistics();
+        refreshNextTasks();
+        persistChanges();
+    }
+
+    /**
+     * 목록 안의 과제 속성/태그가 바뀌었을 때 호출
+     */
+    private void onTaskChanged(Task task) {
+        for (TaskIndex index : indexes) {
+            index.onChanged(task);
+        }
+        updateIndexedFilterMatch(task);
+        recordChange(task, TaskMutation.Type.UPDATE);
+        publishStatistics();
+        refreshNextTasks();
+        persistChanges();
+    }
+
+    /**
+     * 과제별로 변경 종류를 하나로 합쳐 기록
+     */
+    private void recordChange(Task task, TaskMutation.Type type) {
+        if (loading) {
+            return;
+        }
+
+        TaskMutation.Type previous = pendingChanges.get(task);
+        switch (type) {
+            case ADD:
+                // 삭제 후 다시 추가된 경우는 수정으로 처리
+                pendingChanges.put(task, previous == TaskMutation.Type.DELETE ? TaskMutation.Type.UPDATE : TaskMutation.Type.ADD);
+                break;
+            case UPDATE:
+                if (previous == null) {
+                    pendingChanges.put(task, TaskMutation.Type.UPDATE);
+                }
+                break;
+            case DELETE:
+                // 아직 저장하지 않은 새 과제는 기록할 필요 없음
+                if (previous == TaskMutation.Type.ADD) {
+                    pendingChanges.remove(task);
+                } else {
+                    pendingChanges.put(task, TaskMutation.Type.DELETE);
+                }
+                break;
+        }
+    }
+
+    /**
+     * 마지막으로 꺼낸 이후 바뀐 과제를 변경 기록으로 반환하고 비움
+     * 과제는 복사본으로 전달되므로 다른 스레드의 저장소에서 그대로 사용 가능
+     * (TaskService는 변경이 생길 때마다 직접 호출하여 BackgroundSaver에 전달)
+     */
+    public List<TaskMutation> drainChanges() {
+        List<TaskMutation> changes = new ArrayList<>(pendingChanges.size());
+        for (Map.Entry<Task, TaskMutation.Type> entry : pendingChanges.entrySet()) {
+            Task task = entry.getKey();
+            switch (entry.getValue()) {
+                case ADD:
+                    changes.add(TaskMutation.add(task.copy()));
+                    break;
+                case UPDATE:
+                    changes.add(TaskMutation.update(task.copy()));
+                    break;
+                case DELETE:
+                    changes.add(TaskMutation.delete(task.getTaskId()));
+                    break;
+            }
+        }
+        pendingChanges.clear();
+        return changes;
+    }
+
+    /**
+     * 대기 중인 변경 저장
+     * 저널 모드에서는 바뀐 과제만 기록하고, 저널이 길어지면 스냅샷으로 압축
+     */
+    private void persistChanges() {
+        if (changeBatchDepth > 0 || loading || pendingChanges.isEmpty()) {
+            return;
+        }
+
+        // 저널이 압축될 만큼 많은 변경(일괄 작업)은 바로 스냅샷으로 저장
+        if (!AppConfig.JOURNAL_ENABLED || pendingChanges.size() >= AppConfig.JOURNAL_COMPACTION_THRESHOLD) {
+            saveTasks();
+            return;
+        }
+
+        for (TaskMutation mutation : drainChanges()) {
+            saver.append(mutation);
+        }
+        // 저장소 상태는 쓰기 스레드에서 확인한 결과만 사용
+        if (saver.isCompactionDue() && !saver.isSnapshotPending()) {
+            saveTasks();
+        }
     }
 
     /**
@@ -58,12 +389,11 @@ public class TaskService {
         }
 
         // 과거 마감일 경고 (오늘은 허용)
-        if (task.getDueDate().isBefore(LocalDate.now())) {
+        if (task.getDueDate().isBefore(clock.today())) {
             System.out.println("경고: 마감일이 과거입니다.");
         }
 
         tasks.add(task);
-        saveTasks();
         return true;
     }
 
@@ -75,16 +405,16 @@ public class TaskService {
             return false;
         }
 
-        Optional<Task> existing = findTaskById(task.getId());
+        Optional<Task> existing = findTaskById(task.getTaskId());
         if (existing.isPresent()) {
-            Task existingTask = existing.get();
-            existingTask.setTitle(task.getTitle());
-            existingTask.setDueDate(task.getDueDate());
-            existingTask.setPriority(task.getPriority());
-            existingTask.setNotes(task.getNotes());
-            existingTask.setTags(task.getTags());
-            existingTask.setCompleted(task.isCompleted());
-            saveTasks();
+            // 여러 속성 변경을 한 건의 수정으로 저장
+            changeBatchDepth++;
+            try {
+                copyInto(existing.get(), task);
+            } finally {
+                changeBatchDepth--;
+            }
+            persistChanges();
             return true;
         }
         return false;
@@ -94,20 +424,157 @@ public class TaskService {
      * 과제 삭제
      */
     public boolean deleteTask(Task task) {
-        boolean removed = tasks.remove(task);
-        if (removed) {
-            saveTasks();
+        Task existing = tasksById.get(task.getTaskId());
+        if (existing == null) {
+            return false;
+        }
+        return tasks.remove(existing);
+    }
+
+    /**
+     * 수정된 내용을 목록의 과제에 반영
+     */
+    private static void copyInto(Task target, Task source) {
+        target.setTitle(source.getTitle());
+        target.setDueDate(source.getDueDate());
+        target.setPriority(source.getPriority());
+        target.setNotes(source.getNotes());
+        target.setTags(source.getTags());
+        target.setCompleted(source.isCompleted());
+    }
+
+    /**
+     * 여러 과제 추가 (하나라도 유효하지 않으면 아무것도 추가하지 않음)
+     * 목록 변경 이벤트와 저장은 한 번만 발생
+     */
+    public boolean addAll(Collection<Task> newTasks) {
+        List<TaskMutation> batch = new ArrayList<>(newTasks.size());
+        for (Task task : newTasks) {
+            batch.add(TaskMutation.add(task));
+        }
+        return applyBatch(batch);
+    }
+
+    /**
+     * 추가/수정/삭제를 한 번에 적용
+     * 먼저 전체를 검증하고 (과제마다 한 건, 추가는 새 id, 수정/삭제는 목록에 있는 id),
+     * 통과하면 수정 → 삭제 → 추가 순서로 적용하여 목록 변경 이벤트는 삭제/추가 각각 한 번, 저장은 한 번만 발생
+     *
+     * @return 검증에 실패하면 false (아무것도 바뀌지 않음)
+     */
+    public boolean applyBatch(List<TaskMutation> batch) {
+        Set<TaskId> seenIds = new HashSet<>();
+        List<Task> added = new ArrayList<>();
+        Set<Task> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<Task, Task> updated = new LinkedHashMap<>();
+        int pastDue = 0;
+
+        for (TaskMutation mutation : batch) {
+            TaskId id = mutation.getId();
+            if (!seenIds.add(id)) {
+                return false;
+            }
+            Task existing = tasksById.get(id);
+            switch (mutation.getType()) {
+                case ADD:
+                    if (existing != null || !mutation.getTask().isValid()) {
+                        return false;
+                    }
+                    if (mutation.getTask().getDueDate().isBefore(clock.today())) {
+                        pastDue++;
+                    }
+                    added.add(mutation.getTask());
+                    break;
+                case UPDATE:
+                    if (existing == null || !mutation.getTask().isValid()) {
+                        return false;
+                    }
+                    updated.put(existing, mutation.getTask());
+                    break;
+                case DELETE:
+                    if (existing == null) {
+                        return false;
+                    }
+                    removed.add(existing);
+                    break;
+            }
+        }
+
+        // 과거 마감일 경고 (오늘은 허용)
+        if (pastDue > 0) {
+            System.out.println("경고: 마감일이 과거인 과제가 " + pastDue + "개 있습니다.");
+        }
+
+        changeBatchDepth++;
+        try {
+            for (Map.Entry<Task, Task> entry : updated.entrySet()) {
+                copyInto(entry.getKey(), entry.getValue());
+            }
+            if (!removed.isEmpty()) {
+                tasks.removeAll(removed);
+            }
+            if (!added.isEmpty()) {
+                tasks.addAll(added);
+            }
+        } finally {
+            changeBatchDepth--;
         }
-        return removed;
+        persistChanges();
+        return true;
+    }
+
+    /**
+     * 과제 목록을 JSON 파일로 내보내기 (pretty가 true면 들여쓰기)
+     */
+    public void exportTasks(Path file, boolean pretty) {
+        TaskJsonFormat.exportTasks(new ArrayList<>(tasks), file, pretty);
+    }
+
+    /**
+     * JSON 파일의 과제를 한 번의 일괄 작업으로 추가 (이미 있는 id와 유효하지 않은 과제는 건너뜀)
+     *
+     * @return 추가한 과제 수
+     */
+    public int importTasks(Path file) {
+        Set<TaskId> seenIds = new HashSet<>(tasksById.keySet());
+        List<Task> imported = new ArrayList<>();
+        for (Task task : TaskJsonFormat.importTasks(file)) {
+            if (task.isValid() && seenIds.add(task.getTaskId())) {
+                imported.add(task);
+            }
+        }
+        return addAll(imported) ? imported.size() : 0;
+    }
+
+    /**
+     * 모든 과제 삭제 (전체 스냅샷으로 저장, 아직 받지 못한 나머지 과제도 삭제)
+     */
+    public void clearAll() {
+        loadGeneration++;
+        remainingLoadPending = false;
+        snapshotDeferred = false;
+        changeBatchDepth++;
+        try {
+            tasks.clear();
+        } finally {
+            changeBatchDepth--;
+        }
+        TagDictionary.reset();
+        saveTasks();
     }
 
     /**
      * ID로 과제 찾기
      */
     public Optional<Task> findTaskById(String id) {
-        return tasks.stream()
-                .filter(t -> t.getId().equals(id))
-                .findFirst();
+        return findTaskById(TaskId.parse(id));
+    }
+
+    /**
+     * ID로 과제 찾기
+     */
+    public Optional<Task> findTaskById(TaskId id) {
+        return Optional.ofNullable(tasksById.get(id));
     }
 
     /**
@@ -135,9 +602,41 @@ public class TaskService {
      * 필터 설정
      */
     public void setFilter(Predicate<Task> predicate) {
+        searcher.cancel();
+        dateDependentFilter = null;
+        indexedFilterMatches = null;
+        indexedFilterCondition = null;
         filteredTasks.setPredicate(predicate);
     }
 
+    /**
+     * 색인으로 찾은 후보로 필터 설정
+     * 필터 목록은 후보 집합 포함 여부만 확인하고, 이후 추가/변경된 과제는 condition으로 집합을 갱신
+     */
+    private void setIndexedFilter(Collection<Task> candidates, Predicate<Task> condition) {
+        searcher.cancel();
+        dateDependentFilter = null;
+        Set<Task> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.addAll(candidates);
+        indexedFilterMatches = matches;
+        indexedFilterCondition = condition;
+        filteredTasks.setPredicate(matches::contains);
+    }
+
+    /**
+     * 색인 필터가 적용 중이면 과제의 포함 여부 갱신
+     */
+    private void updateIndexedFilterMatch(Task task) {
+        if (indexedFilterMatches == null) {
+            return;
+        }
+        if (indexedFilterCondition.test(task)) {
+            indexedFilterMatches.add(task);
+        } else {
+            indexedFilterMatches.remove(task);
+        }
+    }
+
     /**
      * 정렬 기준 설정
      */
@@ -149,14 +648,18 @@ public class TaskService {
      * 오늘 마감 과제 필터
      */
     public void filterToday() {
-        setFilter(Task::isDueToday);
+        LocalDate today = clock.today();
+        setIndexedFilter(dueDateIndex.tasksOn(today), task -> task.isDueToday(today));
+        dateDependentFilter = this::filterToday;
     }
 
     /**
      * 이번주 마감 과제 필터
      */
     public void filterThisWeek() {
-        setFilter(Task::isDueThisWeek);
+        LocalDate today = clock.today();
+        setIndexedFilter(dueDateIndex.tasksBetween(today, today.plusDays(7)), task -> task.isDueThisWeek(today));
+        dateDependentFilter = this::filterThisWeek;
     }
 
     /**
@@ -174,7 +677,7 @@ public class TaskService {
     }
 
     /**
-     * 제목 또는 태그로 검색
+     * 제목 또는 태그로 검색 (초성 검색 지원: "ㅈㅂ" → "자바")
      */
     public void search(String query) {
         if (query == null || query.trim().isEmpty()) {
@@ -182,27 +685,126 @@ public class TaskService {
             return;
         }
 
+        // 색인 후보로 결과를 구하고, 이후 추가/변경되는 과제는 색인된 텍스트로 판정
         String lowerQuery = query.toLowerCase();
-        setFilter(task -> {
-            // 제목 검색
-            if (task.getTitle().toLowerCase().contains(lowerQuery)) {
-                return true;
-            }
-            // 태그 검색
-            for (String tag : task.getTags()) {
-                if (tag.toLowerCase().contains(lowerQuery)) {
-                    return true;
-                }
-            }
+        setIndexedFilter(searchIndex.search(lowerQuery), task -> searchIndex.matches(task, lowerQuery));
+    }
+
+    /**
+     * 질의(TaskQuery 문법)로 필터 설정
+     * 예: "tag:수학 priority:HIGH due<2026-11-01 -done"
+     *
+     * @return 질의가 잘못되었으면 false (필터는 바뀌지 않음)
+     */
+    public boolean filterByQuery(String query) {
+        TaskQuery parsed = parseQuery(query);
+        if (parsed == null) {
             return false;
-        });
+        }
+        applyQuery(query, parsed);
+        return true;
+    }
+
+    /**
+     * 검색창 입력 반영: 조건 구문(tag:, due< 등)이 있으면 색인 질의, 아니면 검색어 검색
+     * 질의는 오늘 날짜(ClockService)로 한 번만 파싱하며, 작성 중이거나 잘못된 조건이면 조건 구문이 아닌 검색어로 취급
+     * 두 경우 모두 입력이 멈춘 뒤 마지막 입력만 적용 (검색어는 검색 스레드, 질의는 UI 스레드에서 실행)
+     */
+    public void searchOrFilter(String text) {
+        TaskQuery parsed = parseQuery(text);
+        if (parsed != null && parsed.hasFieldTerms()) {
+            searcher.submitOnResultThread(() -> applyQuery(text, parsed));
+        } else {
+            searchInBackground(text);
+        }
+    }
+
+    /**
+     * 질의 파싱 (잘못된 질의면 null, 입력할 때마다 호출되므로 오류는 출력하지 않음)
+     */
+    private TaskQuery parseQuery(String query) {
+        try {
+            return TaskQuery.parse(query, clock.today());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void applyQuery(String query, TaskQuery parsed) {
+        QueryPlanner.Plan plan = planner.plan(parsed);
+        setIndexedFilter(execute(plan), plan.getCondition());
+        // "today"가 들어간 질의는 날짜가 바뀌면 다시 해석
+        dateDependentFilter = () -> filterByQuery(query);
+    }
+
+    /**
+     * 질의(TaskQuery 문법)를 만족하는 과제 목록
+     *
+     * @throws IllegalArgumentException 질의가 잘못된 경우
+     */
+    public List<Task> findTasks(String query) {
+        return execute(planner.plan(TaskQuery.parse(query, clock.today())));
+    }
+
+    /**
+     * 질의 실행 계획에서 사용할 색인 이름 (디버깅용)
+     */
+    public String explainQuery(String query) {
+        return planner.plan(TaskQuery.parse(query, clock.today())).getIndexName();
+    }
+
+    private static List<Task> execute(QueryPlanner.Plan plan) {
+        List<Task> result = new ArrayList<>();
+        for (Task task : plan.getCandidates()) {
+            if (plan.getCondition().test(task)) {
+                result.add(task);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 검색어 입력 중 호출: 입력이 멈추면 검색 스레드에서 색인을 조회하고 마지막 검색어의 결과만 적용
+     */
+    public void searchInBackground(String query) {
+        if (query == null || query.trim().isEmpty()) {
+            showAll();
+            return;
+        }
+        searcher.submit(query.toLowerCase(), this::applySearchResult);
+    }
+
+    /**
+     * 백그라운드 검색 결과 적용 (UI 스레드)
+     * 검색하는 동안 과제가 바뀌었으면 색인으로 다시 조회
+     */
+    private void applySearchResult(BackgroundSearcher.Result result) {
+        String lowerQuery = result.getQuery();
+        List<Task> matches = result.getIndexVersion() == searchIndex.getVersion()
+                ? result.getMatches()
+                : searchIndex.search(lowerQuery);
+        setIndexedFilter(matches, task -> searchIndex.matches(task, lowerQuery));
     }
 
     /**
      * 특정 날짜의 과제 필터
      */
     public void filterByDate(LocalDate date) {
-        setFilter(task -> task.getDueDate().equals(date));
+        setIndexedFilter(dueDateIndex.tasksOn(date), task -> date.equals(task.getDueDate()));
+    }
+
+    /**
+     * 기간 안에서 과제가 있는 날짜 (캘린더 표시용)
+     */
+    public Set<LocalDate> getDueDatesBetween(LocalDate from, LocalDate to) {
+        return dueDateIndex.datesBetween(from, to);
+    }
+
+    /**
+     * 마감일 기간으로 과제 조회 (from ~ to 포함)
+     */
+    public List<Task> getTasksDueBetween(LocalDate from, LocalDate to) {
+        return dueDateIndex.tasksBetween(from, to);
     }
 
     /**
@@ -244,7 +846,7 @@ public class TaskService {
      * 통계: 완료된 과제 수
      */
     public int getCompletedTaskCount() {
-        return (int) tasks.stream().filter(Task::isCompleted).count();
+        return statistics.getCompletedCount();
     }
 
     /**
@@ -261,13 +863,146 @@ public class TaskService {
      * 통계: 오늘 마감 과제 수
      */
     public int getTodayTaskCount() {
-        return (int) tasks.stream().filter(Task::isDueToday).count();
+        return statistics.getDueTodayCount();
     }
 
     /**
      * 통계: 연체된 과제 수
      */
     public int getOverdueTaskCount() {
-        return (int) tasks.stream().filter(Task::isOverdue).count();
+        return statistics.getOverdueCount();
+    }
+
+    /**
+     * 통계: 주별 완료율 (firstWeek부터 7일 단위, 마감일 기준)
+     */
+    public double[] getCompletionRateByWeek(LocalDate firstWeek, int weeks) {
+        return columns.completionRateByWeek(firstWeek, weeks);
+    }
+
+    /**
+     * 통계: from부터 days일 동안 날짜별 마감되는 미완료 과제 수
+     */
+    public int[] getLoadPerDay(LocalDate from, int days) {
+        return columns.loadPerDay(from, days);
+    }
+
+    /**
+     * 통계: 우선순위별 연체 과제 수 (열 저장소에서 집계, 연체 과제가 없는 우선순위는 0)
+     */
+    public Map<Priority, Integer> getOverdueCountsByPriority() {
+        int[] counts = columns.overdueByPriority(clock.today());
+        Map<Priority, Integer> result = new EnumMap<>(Priority.class);
+        for (Priority priority : Priority.values()) {
+            result.put(priority, counts[priority.ordinal()]);
+        }
+        return result;
+    }
+
+    /**
+     * 통계: 태그별(소문자 태그) 미완료 과제 수 (열 저장소에서 집계, 미완료 과제가 있는 태그만)
+     */
+    public Map<String, Integer> getOpenTaskCountsByTag() {
+        int[] counts = columns.openTasksByTag();
+        TagDictionary dictionary = TagDictionary.shared();
+        Map<String, Integer> result = new HashMap<>();
+        for (int foldedId = 0; foldedId < counts.length; foldedId++) {
+            if (counts[foldedId] > 0) {
+                result.put(dictionary.tagOf(foldedId), counts[foldedId]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 가장 급한 과제 최대 limit개 (마감까지 남은 일수와 우선순위 기준, 완료 과제 제외)
+     */
+    public List<Task> getMostUrgentTasks(int limit) {
+        return urgencyQueue.top(limit);
+    }
+
+    /**
+     * "다음에 할 일" 목록 (과제 변경 시 자동 갱신, 읽기 전용)
+     */
+    public ObservableList<Task> getNextTasks() {
+        return FXCollections.unmodifiableObservableList(nextTasks);
+    }
+
+    /**
+     * 급한 과제 목록이 바뀌었을 때만 갱신 (O(K))
+     */
+    private void refreshNextTasks() {
+        List<Task> top = urgencyQueue.top(AppConfig.NEXT_TASKS_COUNT);
+        if (!top.equals(nextTasks)) {
+            nextTasks.setAll(top);
+        }
+    }
+
+    /**
+     * 자정이 지나 오늘 날짜가 바뀜 (UI 스레드)
+     */
+    private void onDateChanged(LocalDate today) {
+        statistics.setToday(today);
+        publishStatistics();
+        if (dateDependentFilter != null) {
+            dateDependentFilter.run();
+        }
+    }
+
+    /**
+     * 통계 카운터를 화면용 속성/맵에 반영
+     */
+    private void publishStatistics() {
+        statistics.publish();
+    }
+
+    /**
+     * 오늘 날짜 서비스
+     */
+    public ClockService getClock() {
+        return clock;
+    }
+
+    // 통계 속성 (변경 시 자동 갱신, 화면에서 바인딩용)
+
+    public ReadOnlyIntegerProperty totalTaskCountProperty() {
+        return statistics.totalProperty();
+    }
+
+    public ReadOnlyIntegerProperty completedTaskCountProperty() {
+        return statistics.completedProperty();
+    }
+
+    public ReadOnlyIntegerProperty todayTaskCountProperty() {
+        return statistics.dueTodayProperty();
+    }
+
+    public ReadOnlyIntegerProperty overdueTaskCountProperty() {
+        return statistics.overdueProperty();
+    }
+
+    public ReadOnlyDoubleProperty completionRateProperty() {
+        return statistics.completionRateProperty();
+    }
+
+    /**
+     * 태그별 통계 (소문자 태그 → 과제/완료/오늘 마감/연체 수, 변경 시 자동 갱신, 읽기 전용)
+     */
+    public ObservableMap<String, TaskStatistics.Counts> getTagStatistics() {
+        return statistics.byTag();
+    }
+
+    /**
+     * 우선순위별 통계 (변경 시 자동 갱신, 읽기 전용)
+     */
+    public ObservableMap<Priority, TaskStatistics.Counts> getPriorityStatistics() {
+        return statistics.byPriority();
+    }
+
+    /**
+     * 태그별/우선순위별 통계가 바뀔 때마다 1씩 증가 (한 번의 변경에 한 번만 알림)
+     */
+    public ReadOnlyLongProperty groupStatisticsRevisionProperty() {
+        return statistics.groupRevisionProperty();
     }
 }
@@ -0,0 +1,377 @@
+package com.studyplanner.service;
+
+import com.studyplanner.model.Priority;
+import com.studyplanner.model.TagDictionary;
+import com.studyplanner.model.Task;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.ReadOnlyLongProperty;
+import javafx.beans.property.ReadOnlyLongWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableMap;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 과제 통계 (전체/완료/오늘 마감/연체 수, 완료율) - 전체와 태그별, 우선순위별
+ * 과제 추가/삭제/변경 시 해당 과제의 기여분만 전체와 그 과제가 속한 그룹에서 더하고 빼서 갱신하며,
+ * 날짜가 바뀌면 오늘 마감/연체 수만 다시 계산
+ *
+ * 카운터는 변경마다 갱신하고, 속성과 그룹별 맵(바인딩용)은 publish 호출 시 한 번에 반영
+ */
+public class TaskStatistics implements TaskIndex {
+    private final ReadOnlyIntegerWrapper total = new ReadOnlyIntegerWrapper(this, "total", 0);
+    private final ReadOnlyIntegerWrapper completed = new ReadOnlyIntegerWrapper(this, "completed", 0);
+    private final ReadOnlyIntegerWrapper dueToday = new ReadOnlyIntegerWrapper(this, "dueToday", 0);
+    private final ReadOnlyIntegerWrapper overdue = new ReadOnlyIntegerWrapper(this, "overdue", 0);
+    private final ReadOnlyDoubleWrapper completionRate = new ReadOnlyDoubleWrapper(this, "completionRate", 0.0);
+    // 그룹별 맵이 바뀐 publish마다 1 증가 (맵 항목마다 알림을 받지 않고 한 번만 갱신할 때 사용)
+    private final ReadOnlyLongWrapper groupRevision = new ReadOnlyLongWrapper(this, "groupRevision", 0);
+
+    // 과제별로 마지막에 집계한 상태
+    private final Map<Task, State> states = new IdentityHashMap<>();
+    private final Counter all = new Counter();
+    // 그룹별 카운터 (태그는 소문자 태그, 과제가 없어진 그룹은 제거)
+    private final Map<String, Counter> byTag = new HashMap<>();
+    private final Map<Priority, Counter> byPriority = new EnumMap<>(Priority.class);
+    // publish 이후 카운터가 바뀐 그룹
+    private final Set<String> dirtyTags = new LinkedHashSet<>();
+    private final Set<Priority> dirtyPriorities = new LinkedHashSet<>();
+    private final ObservableMap<String, Counts> publishedTags = FXCollections.observableHashMap();
+    private final ObservableMap<Priority, Counts> publishedPriorities = FXCollections.observableMap(
+            new EnumMap<>(Priority.class));
+    private LocalDate today;
+
+    /**
+     * 그룹 하나의 집계 결과 (publish할 때마다 새 객체)
+     */
+    public static class Counts {
+        private final int total;
+        private final int completed;
+        private final int dueToday;
+        private final int overdue;
+
+        Counts(int total, int completed, int dueToday, int overdue) {
+            this.total = total;
+            this.completed = completed;
+            this.dueToday = dueToday;
+            this.overdue = overdue;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public int getCompleted() {
+            return completed;
+        }
+
+        public int getDueToday() {
+            return dueToday;
+        }
+
+        public int getOverdue() {
+            return overdue;
+        }
+
+        /**
+         * 완료율 (0.0 ~ 1.0)
+         */
+        public double getCompletionRate() {
+            return total == 0 ? 0.0 : (double) completed / total;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Counts)) {
+                return false;
+            }
+            Counts other = (Counts) o;
+            return total == other.total && completed == other.completed
+                    && dueToday == other.dueToday && overdue == other.overdue;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(total, completed, dueToday, overdue);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Counts[total=%d, completed=%d, dueToday=%d, overdue=%d]",
+                    total, completed, dueToday, overdue);
+        }
+    }
+
+    /**
+     * 전체 또는 그룹 하나의 카운터
+     */
+    private static class Counter {
+        int total;
+        int completed;
+        int dueToday;
+        int overdue;
+
+        Counts toCounts() {
+            return new Counts(total, completed, dueToday, overdue);
+        }
+    }
+
+    /**
+     * 통계에 영향을 주는 과제 속성
+     */
+    private static class State {
+        final boolean completed;
+        final LocalDate dueDate;
+        final Priority priority;
+        // 대소문자를 무시한 태그 (소문자, 중복 제거)
+        final List<String> tags;
+
+        State(Task task) {
+            this.completed = task.isCompleted();
+            this.dueDate = task.getDueDate();
+            this.priority = task.getPriority();
+            this.tags = foldedTags(task);
+        }
+
+        boolean sameAs(State other) {
+            return completed == other.completed && Objects.equals(dueDate, other.dueDate)
+                    && priority == other.priority && tags.equals(other.tags);
+        }
+
+        private static List<String> foldedTags(Task task) {
+            int[] folded = task.getFoldedTagIds();
+            if (folded.length == 0) {
+                return Collections.emptyList();
+            }
+            TagDictionary dictionary = TagDictionary.shared();
+            List<String> tags = new ArrayList<>(folded.length);
+            for (int id : folded) {
+                String tag = dictionary.tagOf(id);
+                if (!tags.contains(tag)) {
+                    tags.add(tag);
+                }
+            }
+            return tags;
+        }
+    }
+
+    public TaskStatistics(LocalDate today) {
+        this.today = today;
+    }
+
+    @Override
+    public void onAdded(Task task) {
+        State state = new State(task);
+        states.put(task, state);
+        count(state, 1);
+    }
+
+    @Override
+    public void onRemoved(Task task) {
+        State state = states.remove(task);
+        if (state != null) {
+            count(state, -1);
+        }
+    }
+
+    @Override
+    public void onChanged(Task task) {
+        State previous = states.get(task);
+        State current = new State(task);
+        if (previous != null && previous.sameAs(current)) {
+            return;
+        }
+        if (previous != null) {
+            count(previous, -1);
+        }
+        states.put(task, current);
+        count(current, 1);
+    }
+
+    /**
+     * 기준 날짜 변경 (날짜가 바뀌었을 때만 오늘 마감/연체 수를 다시 계산)
+     */
+    public void setToday(LocalDate date) {
+        if (date.equals(today)) {
+            return;
+        }
+        today = date;
+        resetDateCounts(all);
+        for (Counter counter : byTag.values()) {
+            resetDateCounts(counter);
+        }
+        for (Counter counter : byPriority.values()) {
+            resetDateCounts(counter);
+        }
+        dirtyTags.addAll(byTag.keySet());
+        dirtyPriorities.addAll(byPriority.keySet());
+
+        for (State state : states.values()) {
+            int dueTodayDelta = isDueToday(state) ? 1 : 0;
+            int overdueDelta = isOverdue(state) ? 1 : 0;
+            if (dueTodayDelta == 0 && overdueDelta == 0) {
+                continue;
+            }
+            addDateCounts(all, dueTodayDelta, overdueDelta);
+            if (state.priority != null) {
+                addDateCounts(byPriority.get(state.priority), dueTodayDelta, overdueDelta);
+            }
+            for (String tag : state.tags) {
+                addDateCounts(byTag.get(tag), dueTodayDelta, overdueDelta);
+            }
+        }
+    }
+
+    private static void resetDateCounts(Counter counter) {
+        counter.dueToday = 0;
+        counter.overdue = 0;
+    }
+
+    private static void addDateCounts(Counter counter, int dueTodayDelta, int overdueDelta) {
+        counter.dueToday += dueTodayDelta;
+        counter.overdue += overdueDelta;
+    }
+
+    /**
+     * 현재 카운터를 속성과 그룹별 맵에 반영 (값이 바뀐 속성/그룹만 리스너에 알림)
+     */
+    public void publish() {
+        total.set(all.total);
+        completed.set(all.completed);
+        dueToday.set(all.dueToday);
+        overdue.set(all.overdue);
+        completionRate.set(all.total == 0 ? 0.0 : (double) all.completed / all.total);
+
+        boolean changed = publishGroups(dirtyTags, byTag, publishedTags);
+        changed |= publishGroups(dirtyPriorities, byPriority, publishedPriorities);
+        if (changed) {
+            groupRevision.set(groupRevision.get() + 1);
+        }
+    }
+
+    private static <K> boolean publishGroups(Set<K> dirty, Map<K, Counter> counters, ObservableMap<K, Counts> published) {
+        boolean changed = false;
+        for (K key : dirty) {
+            Counter counter = counters.get(key);
+            if (counter == null) {
+                changed |= published.remove(key) != null;
+                continue;
+            }
+            Counts counts = counter.toCounts();
+            if (!counts.equals(published.get(key))) {
+                published.put(key, counts);
+                changed = true;
+            }
+        }
+        dirty.clear();
+        return changed;
+    }
+
+    private void count(State state, int delta) {
+        count(all, state, delta);
+        if (state.priority != null) {
+            countGroup(byPriority, dirtyPriorities, state.priority, state, delta);
+        }
+        for (String tag : state.tags) {
+            countGroup(byTag, dirtyTags, tag, state, delta);
+        }
+    }
+
+    private <K> void countGroup(Map<K, Counter> counters, Set<K> dirty, K key, State state, int delta) {
+        Counter counter = counters.computeIfAbsent(key, k -> new Counter());
+        count(counter, state, delta);
+        if (counter.total == 0) {
+            counters.remove(key);
+        }
+        dirty.add(key);
+    }
+
+    private void count(Counter counter, State state, int delta) {
+        counter.total += delta;
+        if (state.completed) {
+            counter.completed += delta;
+        }
+        if (isDueToday(state)) {
+            counter.dueToday += delta;
+        }
+        if (isOverdue(state)) {
+            counter.overdue += delta;
+        }
+    }
+
+    private boolean isDueToday(State state) {
+        return today.equals(state.dueDate);
+    }
+
+    private boolean isOverdue(State state) {
+        return !state.completed && state.dueDate != null && state.dueDate.isBefore(today);
+    }
+
+    public int getCompletedCount() {
+        return all.completed;
+    }
+
+    public int getDueTodayCount() {
+        return all.dueToday;
+    }
+
+    public int getOverdueCount() {
+        return all.overdue;
+    }
+
+    /**
+     * 태그별 통계 (소문자 태그 → 집계, publish 시 갱신, 읽기 전용)
+     */
+    public ObservableMap<String, Counts> byTag() {
+        return FXCollections.unmodifiableObservableMap(publishedTags);
+    }
+
+    /**
+     * 우선순위별 통계 (publish 시 갱신, 읽기 전용)
+     */
+    public ObservableMap<Priority, Counts> byPriority() {
+        return FXCollections.unmodifiableObservableMap(publishedPriorities);
+    }
+
+    // Property getters
+
+    public ReadOnlyIntegerProperty totalProperty() {
+        return total.getReadOnlyProperty();
+    }
+
+    public ReadOnlyIntegerProperty completedProperty() {
+        return completed.getReadOnlyProperty();
+    }
+
+    public ReadOnlyIntegerProperty dueTodayProperty() {
+        return dueToday.getReadOnlyProperty();
+    }
+
+    public ReadOnlyIntegerProperty overdueProperty() {
+        return overdue.getReadOnlyProperty();
+    }
+
+    public ReadOnlyDoubleProperty completionRateProperty() {
+        return completionRate.getReadOnlyProperty();
+    }
+
+    public ReadOnlyLongProperty groupRevisionProperty() {
+        return groupRevision.getReadOnlyProperty();
+    }
+}
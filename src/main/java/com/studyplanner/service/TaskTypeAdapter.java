@@ -0,0 +1,148 @@
+package com.studyplanner.service;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.studyplanner.model.Priority;
+import com.studyplanner.model.Task;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Task JSON 어댑터
+ * 리플렉션이나 중간 데이터 클래스 없이 필드를 직접 읽고 씀
+ * 필드 이름은 기존 tasks.json 형식과 동일
+ *
+ * externalNotes가 주어지면 메모는 따로 보관된 것으로 보고 기록하지 않으며,
+ * 읽을 때 notes 필드가 없는 과제는 externalNotes에서 지연 로드
+ */
+public class TaskTypeAdapter extends TypeAdapter<Task> {
+    private final Task.NotesLoader externalNotes;
+
+    /**
+     * 메모를 레코드 안에 함께 기록하는 어댑터 (가져오기/내보내기)
+     */
+    public TaskTypeAdapter() {
+        this(null);
+    }
+
+    public TaskTypeAdapter(Task.NotesLoader externalNotes) {
+        this.externalNotes = externalNotes;
+    }
+
+    @Override
+    public void write(JsonWriter out, Task task) throws IOException {
+        if (task == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id").value(task.getId());
+        out.name("title").value(task.getTitle());
+        out.name("dueDate").value(task.getDueDate() != null ? task.getDueDate().toString() : null);
+        out.name("priority").value(task.getPriority() != null ? task.getPriority().name() : null);
+        if (externalNotes == null) {
+            out.name("notes").value(task.getNotes());
+        }
+        out.name("tags").beginArray();
+        for (String tag : task.getTags()) {
+            out.value(tag);
+        }
+        out.endArray();
+        out.name("completed").value(task.isCompleted());
+        out.endObject();
+    }
+
+    @Override
+    public Task read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        String id = null;
+        String title = null;
+        LocalDate dueDate = null;
+        Priority priority = null;
+        String notes = "";
+        boolean notesPresent = false;
+        List<String> tags = new ArrayList<>();
+        boolean completed = false;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                notesPresent |= name.equals("notes");
+                continue;
+            }
+
+            switch (name) {
+                case "id":
+                    id = in.nextString();
+                    break;
+                case "title":
+                    title = in.nextString();
+                    break;
+                case "dueDate":
+                    dueDate = parseDate(in.nextString());
+                    break;
+                case "priority":
+                    priority = parsePriority(in.nextString());
+                    break;
+                case "notes":
+                    notes = in.nextString();
+                    notesPresent = true;
+                    break;
+                case "tags":
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        tags.add(in.nextString());
+                    }
+                    in.endArray();
+                    break;
+                case "completed":
+                    completed = in.nextBoolean();
+                    break;
+                default:
+                    // 알 수 없는 필드는 무시 (이후 버전 호환)
+                    in.skipValue();
+                    break;
+            }
+        }
+        in.endObject();
+
+        if (id == null) {
+            throw new JsonParseException("id가 없는 과제 레코드입니다.");
+        }
+        Task task = new Task(id, title, dueDate, priority, notes, tags, completed);
+        if (!notesPresent && externalNotes != null) {
+            task.setNotesLoader(externalNotes);
+        }
+        return task;
+    }
+
+    private static LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new JsonParseException("잘못된 마감일 형식: " + value, e);
+        }
+    }
+
+    private static Priority parsePriority(String value) {
+        try {
+            return Priority.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new JsonParseException("알 수 없는 우선순위: " + value, e);
+        }
+    }
+}
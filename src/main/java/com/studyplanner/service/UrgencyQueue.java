@@ -0,0 +1,121 @@
+package com.studyplanner.service;
+
+import com.studyplanner.model.Priority;
+import com.studyplanner.model.Task;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * 긴급도 순 과제 큐 ("다음에 할 일")
+ * 긴급도 = 마감까지 남은 일수 - 우선순위 가산 일수 (작을수록 급함), 완료되었거나 마감일이 없는 과제는 제외
+ *
+ * 남은 일수는 모든 과제에서 오늘 날짜만큼 똑같이 줄어들므로 마감일(epoch day) 기준으로 정렬해 두면
+ * 날짜가 바뀌어도 순서를 다시 계산할 필요가 없음
+ */
+public class UrgencyQueue implements TaskIndex {
+
+    /**
+     * 큐 항목 (정렬 키는 넣을 때 계산하여 고정)
+     */
+    private static class Entry {
+        final Task task;
+        final long score;
+        final int priorityRank;
+        final long sequence;
+
+        Entry(Task task, long sequence) {
+            this.task = task;
+            this.score = task.getDueDate().toEpochDay() - priorityBonusDays(task.getPriority());
+            this.priorityRank = task.getPriority() == null ? 0 : task.getPriority().ordinal();
+            this.sequence = sequence;
+        }
+    }
+
+    // 긴급도 → 우선순위 높은 순 → 먼저 들어온 순
+    private final NavigableSet<Entry> queue = new TreeSet<>(Comparator
+            .comparingLong((Entry entry) -> entry.score)
+            .thenComparing(entry -> -entry.priorityRank)
+            .thenComparingLong(entry -> entry.sequence));
+    private final Map<Task, Entry> entries = new IdentityHashMap<>();
+    private long nextSequence;
+
+    /**
+     * 우선순위만큼 마감일을 앞당겨 보는 일수
+     */
+    static int priorityBonusDays(Priority priority) {
+        if (priority == null) {
+            return 0;
+        }
+        switch (priority) {
+            case HIGH:
+                return 2;
+            case MEDIUM:
+                return 1;
+            default:
+                return 0;
+        }
+    }
+
+    @Override
+    public void onAdded(Task task) {
+        if (task.isCompleted() || task.getDueDate() == null) {
+            return;
+        }
+        Entry entry = new Entry(task, nextSequence++);
+        entries.put(task, entry);
+        queue.add(entry);
+    }
+
+    @Override
+    public void onRemoved(Task task) {
+        Entry entry = entries.remove(task);
+        if (entry != null) {
+            queue.remove(entry);
+        }
+    }
+
+    @Override
+    public void onChanged(Task task) {
+        Entry entry = entries.get(task);
+        if (entry != null && !task.isCompleted() && isCurrent(entry, task)) {
+            // 제목 등 순서와 무관한 속성 변경
+            return;
+        }
+        onRemoved(task);
+        onAdded(task);
+    }
+
+    private static boolean isCurrent(Entry entry, Task task) {
+        LocalDate dueDate = task.getDueDate();
+        return dueDate != null
+                && entry.score == dueDate.toEpochDay() - priorityBonusDays(task.getPriority())
+                && entry.priorityRank == (task.getPriority() == null ? 0 : task.getPriority().ordinal());
+    }
+
+    /**
+     * 가장 급한 과제 최대 limit개 (급한 순)
+     */
+    public List<Task> top(int limit) {
+        List<Task> result = new ArrayList<>(Math.min(limit, queue.size()));
+        Iterator<Entry> iterator = queue.iterator();
+        while (result.size() < limit && iterator.hasNext()) {
+            result.add(iterator.next().task);
+        }
+        return result;
+    }
+
+    /**
+     * 큐에 있는 (완료되지 않은) 과제 수
+     */
+    public int size() {
+        return queue.size();
+    }
+}
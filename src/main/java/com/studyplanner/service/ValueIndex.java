@@ -0,0 +1,67 @@
+package com.studyplanner.service;
+
+import com.studyplanner.model.Task;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 과제 속성 값 하나로 묶는 색인 (완료 여부, 우선순위 등)
+ *
+ * @param <K> 속성 값 타입
+ */
+public class ValueIndex<K> implements TaskIndex {
+    private final Function<Task, K> valueOf;
+    private final Map<K, Set<Task>> buckets = new HashMap<>();
+    // 과제가 현재 들어 있는 값 (속성 변경 시 이전 위치를 찾기 위해 보관)
+    private final Map<Task, K> indexedValues = new IdentityHashMap<>();
+
+    public ValueIndex(Function<Task, K> valueOf) {
+        this.valueOf = valueOf;
+    }
+
+    @Override
+    public void onAdded(Task task) {
+        K value = valueOf.apply(task);
+        if (value == null) {
+            return;
+        }
+        buckets.computeIfAbsent(value, key -> Collections.newSetFromMap(new IdentityHashMap<>())).add(task);
+        indexedValues.put(task, value);
+    }
+
+    @Override
+    public void onRemoved(Task task) {
+        K indexed = indexedValues.remove(task);
+        if (indexed == null) {
+            return;
+        }
+        Set<Task> bucket = buckets.get(indexed);
+        bucket.remove(task);
+        if (bucket.isEmpty()) {
+            buckets.remove(indexed);
+        }
+    }
+
+    @Override
+    public void onChanged(Task task) {
+        if (indexedValues.containsKey(task) && Objects.equals(indexedValues.get(task), valueOf.apply(task))) {
+            return;
+        }
+        onRemoved(task);
+        onAdded(task);
+    }
+
+    /**
+     * 속성 값이 value인 과제
+     */
+    public Set<Task> tasksWith(K value) {
+        Set<Task> bucket = buckets.get(value);
+        return bucket == null ? Collections.emptySet() : Collections.unmodifiableSet(bucket);
+    }
+}
@@ -0,0 +1,126 @@
+package com.studyplanner.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한글 자모 분해 유틸리티 (초성 검색, 조합 중인 글자 검색용)
+ */
+public class HangulUtil {
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNGSUNG_COUNT = 21;
+    private static final int JONGSUNG_COUNT = 28;
+
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    // 첫 항목은 받침 없음
+    private static final String JONGSUNG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    // 겹모음/겹받침 → 입력 순서대로 나눈 자모 (ㅘ → ㅗㅏ, ㄺ → ㄹㄱ)
+    private static final Map<Character, String> COMPOUND_JAMO = new HashMap<>();
+
+    static {
+        String[] compounds = {
+                "ㅘㅗㅏ", "ㅙㅗㅐ", "ㅚㅗㅣ", "ㅝㅜㅓ", "ㅞㅜㅔ", "ㅟㅜㅣ", "ㅢㅡㅣ",
+                "ㄳㄱㅅ", "ㄵㄴㅈ", "ㄶㄴㅎ", "ㄺㄹㄱ", "ㄻㄹㅁ", "ㄼㄹㅂ",
+                "ㄽㄹㅅ", "ㄾㄹㅌ", "ㄿㄹㅍ", "ㅀㄹㅎ", "ㅄㅂㅅ"
+        };
+        for (String compound : compounds) {
+            COMPOUND_JAMO.put(compound.charAt(0), compound.substring(1));
+        }
+    }
+
+    /**
+     * 완성형 한글을 입력 순서의 자모로 분해 (한글이 아닌 문자는 그대로)
+     * 예: "과제" → "ㄱㅗㅏㅈㅔ"
+     * 조합 중인 글자("잡")도 분해하면 완성된 문자열("자바")의 앞부분과 일치함
+     */
+    public static String toJamo(String text) {
+        StringBuilder jamo = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int offset = c - SYLLABLE_BASE;
+                int jongsung = offset % JONGSUNG_COUNT;
+                int jungsung = (offset / JONGSUNG_COUNT) % JUNGSUNG_COUNT;
+                int chosung = offset / (JONGSUNG_COUNT * JUNGSUNG_COUNT);
+                jamo.append(CHOSUNG.charAt(chosung));
+                appendJamo(jamo, JUNGSUNG.charAt(jungsung));
+                if (jongsung > 0) {
+                    appendJamo(jamo, JONGSUNG.charAt(jongsung));
+                }
+            } else {
+                appendJamo(jamo, c);
+            }
+        }
+        return jamo.toString();
+    }
+
+    /**
+     * 완성형 한글을 초성으로 변환 (한글이 아닌 문자는 그대로)
+     * 예: "자바 과제" → "ㅈㅂ ㄱㅈ"
+     */
+    public static String toChosung(String text) {
+        StringBuilder chosung = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                chosung.append(CHOSUNG.charAt((c - SYLLABLE_BASE) / (JONGSUNG_COUNT * JUNGSUNG_COUNT)));
+            } else {
+                chosung.append(c);
+            }
+        }
+        return chosung.toString();
+    }
+
+    /**
+     * 초성(자음)과 공백으로만 이루어진 검색어인지 확인
+     */
+    public static boolean isChosungQuery(String query) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (CHOSUNG.indexOf(c) >= 0) {
+                hasConsonant = true;
+            } else if (!Character.isWhitespace(c)) {
+                return false;
+            }
+        }
+        return hasConsonant;
+    }
+
+    /**
+     * 입력 중인 검색어가 text 안에 있는지 확인
+     * 마지막 글자는 아직 조합 중일 수 있으므로 text의 한 글자와 자모 앞부분으로 비교하고,
+     * 나머지 글자는 글자 단위로 비교 (글자 경계를 넘어 일치하지 않음)
+     * 예: "자바 고"는 "자바 과제"와 일치하지만, "강"은 "가요"와 일치하지 않음
+     */
+    public static boolean containsComposing(String text, String query) {
+        if (query.isEmpty()) {
+            return true;
+        }
+        int last = query.length() - 1;
+        String lastJamo = toJamo(query.substring(last));
+        for (int start = 0; start + last < text.length(); start++) {
+            if (text.startsWith(query.substring(0, last), start)
+                    && toJamo(text.substring(start + last, start + last + 1)).startsWith(lastJamo)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+
+    private static void appendJamo(StringBuilder jamo, char c) {
+        String parts = COMPOUND_JAMO.get(c);
+        if (parts != null) {
+            jamo.append(parts);
+        } else {
+            jamo.append(c);
+        }
+    }
+}
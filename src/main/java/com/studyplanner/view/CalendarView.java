@@ -10,9 +10,12 @@ import javafx.scene.text.FontWeight;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * 월간 캘린더 뷰 컴포넌트
@@ -23,12 +26,14 @@ public class CalendarView extends VBox {
     private GridPane calendarGrid;
     private Label monthLabel;
     private Consumer<LocalDate> onDateClickCallback;
-    private List<LocalDate> highlightedDates;
+    private Set<LocalDate> highlightedDates;
+    // 표시 중인 월의 과제 날짜를 조회 (설정되면 highlightedDates 대신 사용)
+    private Function<YearMonth, ? extends Collection<LocalDate>> highlightProvider;
 
     public CalendarView() {
         super(10);
         this.currentYearMonth = YearMonth.now();
-        this.highlightedDates = new ArrayList<>();
+        this.highlightedDates = new HashSet<>();
 
         setupUI();
         updateCalendar();
@@ -100,6 +105,11 @@ public class CalendarView extends VBox {
         // 그리드 클리어
         calendarGrid.getChildren().clear();
 
+        // 표시할 월의 과제 날짜
+        Collection<LocalDate> monthDates = highlightProvider != null
+                ? highlightProvider.apply(currentYearMonth)
+                : highlightedDates;
+
         // 해당 월의 1일
         LocalDate firstOfMonth = currentYearMonth.atDay(1);
         int daysInMonth = currentYearMonth.lengthOfMonth();
@@ -131,7 +141,7 @@ public class CalendarView extends VBox {
                     }
 
                     // 과제가 있는 날짜 표시
-                    if (highlightedDates.contains(date)) {
+                    if (monthDates.contains(date)) {
                         dayButton.getStyleClass().add("calendar-has-task");
                     }
 
@@ -171,7 +181,22 @@ public class CalendarView extends VBox {
      * 과제가 있는 날짜 목록 설정
      */
     public void setHighlightedDates(List<LocalDate> dates) {
-        this.highlightedDates = new ArrayList<>(dates);
+        this.highlightedDates = new HashSet<>(dates);
+        updateCalendar();
+    }
+
+    /**
+     * 월별 과제 날짜 조회 함수 설정 (월을 이동할 때마다 해당 월만 조회)
+     */
+    public void setHighlightProvider(Function<YearMonth, ? extends Collection<LocalDate>> provider) {
+        this.highlightProvider = provider;
+        updateCalendar();
+    }
+
+    /**
+     * 과제 날짜가 바뀌었을 때 다시 그리기
+     */
+    public void refresh() {
         updateCalendar();
     }
 
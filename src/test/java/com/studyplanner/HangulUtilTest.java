@@ -0,0 +1,50 @@
+package com.studyplanner;
+
+import com.studyplanner.util.HangulUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HangulUtil 테스트
+ */
+class HangulUtilTest {
+
+    @Test
+    void testToChosung() {
+        assertEquals("ㅈㅂ ㄱㅈ ㅈㅊ", HangulUtil.toChosung("자바 과제 제출"));
+        assertEquals("java ㄱㅈ", HangulUtil.toChosung("java 과제"), "한글이 아닌 문자는 그대로");
+    }
+
+    @Test
+    void testToJamo() {
+        assertEquals("ㄱㅗㅏㅈㅔ", HangulUtil.toJamo("과제"), "겹모음은 나누어 분해");
+        assertEquals("ㄷㅏㄹㄱ", HangulUtil.toJamo("닭"), "겹받침은 나누어 분해");
+        assertEquals("ㅎㅣㅎ", HangulUtil.toJamo("힣"), "마지막 완성형 글자");
+    }
+
+    @Test
+    void testToJamo_ComposingSyllableMatchesPrefix() {
+        // "자바"를 입력하는 도중에는 "잡"이 표시됨
+        assertTrue(HangulUtil.toJamo("자바").startsWith(HangulUtil.toJamo("잡")));
+        assertTrue(HangulUtil.toJamo("과제").startsWith(HangulUtil.toJamo("고")));
+    }
+
+    @Test
+    void testContainsComposing() {
+        assertTrue(HangulUtil.containsComposing("자바 과제", "자바 고"), "마지막 글자는 자모 앞부분으로 비교");
+        assertTrue(HangulUtil.containsComposing("자바 과제", "과제"));
+        assertFalse(HangulUtil.containsComposing("가요", "강"), "글자 경계를 넘지 않음");
+        assertFalse(HangulUtil.containsComposing("가고", "각"));
+        assertFalse(HangulUtil.containsComposing("수하고", "수학"), "앞 글자는 글자 단위로 비교");
+    }
+
+    @Test
+    void testIsChosungQuery() {
+        assertTrue(HangulUtil.isChosungQuery("ㅈㅂ"));
+        assertTrue(HangulUtil.isChosungQuery("ㅈㅂ ㄱㅈ"));
+        assertFalse(HangulUtil.isChosungQuery("자ㅂ"), "완성된 글자가 섞이면 초성 검색이 아님");
+        assertFalse(HangulUtil.isChosungQuery("ㅏ"), "모음만 있으면 초성 검색이 아님");
+        assertFalse(HangulUtil.isChosungQuery(" "));
+    }
+}
@@ -0,0 +1,406 @@
+package com.studyplanner;
+
+import com.studyplanner.model.Priority;
+import com.studyplanner.model.Task;
+import com.studyplanner.service.BackgroundSaver;
+import com.studyplanner.service.BinarySnapshot;
+import com.studyplanner.service.InMemoryStorageBackend;
+import com.studyplanner.service.NoteStore;
+import com.studyplanner.service.StorageBackend;
+import com.studyplanner.service.StorageBackends;
+import com.studyplanner.service.TaskMutation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StorageBackend 구현체 테스트
+ */
+class StorageBackendTest {
+
+    @TempDir
+    Path tempDir;
+
+    private List<Task> sampleTasks() {
+        Task task1 = new Task("자바 과제", LocalDate.of(2024, 5, 1), Priority.HIGH);
+        task1.setNotes("메모");
+        task1.setTagsFromString("프로그래밍, 과제");
+        Task task2 = new Task("수학 공부", LocalDate.of(2024, 5, 3), Priority.LOW);
+        task2.setCompleted(true);
+        return Arrays.asList(task1, task2);
+    }
+
+    private void assertRoundTrip(StorageBackend backend) {
+        List<Task> tasks = sampleTasks();
+        backend.saveTasks(tasks);
+
+        // 스냅샷 이후 변경 기록 반영
+        Task updated = tasks.get(0).copy();
+        updated.setTitle("자바 과제 (수정)");
+        Task added = new Task("영어 단어", LocalDate.of(2024, 5, 7), Priority.MEDIUM);
+        backend.apply(Arrays.asList(
+                TaskMutation.update(updated),
+                TaskMutation.delete(tasks.get(1).getId()),
+                TaskMutation.add(added)));
+
+        List<Task> loaded = backend.loadTasks();
+        assertEquals(2, loaded.size(), "삭제가 반영되어야 합니다");
+        assertEquals("자바 과제 (수정)", loaded.get(0).getTitle(), "수정 내용이 반영되어야 합니다");
+        assertEquals(tasks.get(0).getTags(), loaded.get(0).getTags(), "태그가 유지되어야 합니다");
+        assertEquals("메모", loaded.get(0).getNotes(), "메모가 유지되어야 합니다");
+        assertEquals(added.getId(), loaded.get(1).getId(), "추가된 과제가 마지막에 있어야 합니다");
+    }
+
+    @Test
+    void testJsonBackend_RoundTrip() {
+        assertRoundTrip(StorageBackends.create(StorageBackends.JSON, tempDir));
+    }
+
+    @Test
+    void testBinaryBackend_RoundTrip() {
+        assertRoundTrip(StorageBackends.create(StorageBackends.BINARY, tempDir));
+    }
+
+    @Test
+    void testBinaryBackend_SaveAfterLoad() {
+        StorageBackend backend = StorageBackends.create(StorageBackends.BINARY, tempDir);
+        backend.saveTasks(sampleTasks());
+        List<Task> loaded = StorageBackends.create(StorageBackends.BINARY, tempDir).loadTasks();
+
+        // 읽은 뒤에도 tasks.bin을 교체할 수 있어야 함
+        loaded.get(0).setTitle("자바 과제 (수정)");
+        backend.saveTasks(loaded);
+        List<Task> reloaded = StorageBackends.create(StorageBackends.BINARY, tempDir).loadTasks();
+        assertEquals(2, reloaded.size());
+        assertEquals("자바 과제 (수정)", reloaded.get(0).getTitle());
+        assertEquals("메모", reloaded.get(0).getNotes(), "메모가 유지되어야 합니다");
+    }
+
+    @Test
+    void testBinarySnapshot_MappedUntilClosed() throws Exception {
+        Path file = tempDir.resolve("tasks.bin");
+        BinarySnapshot.write(sampleTasks(), file);
+
+        Task first;
+        try (BinarySnapshot snapshot = BinarySnapshot.open(file)) {
+            assertEquals(2, snapshot.size());
+            first = snapshot.get(0);
+            assertThrows(IllegalStateException.class, () -> {
+                snapshot.close();
+                snapshot.get(1);
+            }, "닫은 뒤에는 레코드를 읽을 수 없음");
+        }
+        assertEquals("자바 과제", first.getTitle(), "이미 변환한 과제는 닫은 뒤에도 사용 가능");
+        Files.delete(file);
+    }
+
+    @Test
+    void testNoteStore_BatchesWritesAndRecoversFromLog() throws Exception {
+        Path notesDir = tempDir.resolve("notes");
+        NoteStore store = new NoteStore(notesDir);
+        Map<String, String> notes = new LinkedHashMap<>();
+        notes.put("task-1", "첫 메모");
+        notes.put("task-2", "둘째 메모");
+        store.saveAll(notes);
+
+        Path log = notesDir.resolve("notes.log");
+        assertEquals(2, Files.readAllLines(log).size(), "한 번의 저장은 로그에 한 번에 기록");
+
+        // 메모 파일이 디스크에 남지 않은 채 종료된 경우: 다음 시작 때 로그에서 복구
+        try (Stream<Path> files = Files.list(notesDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (file.getFileName().toString().endsWith(".txt")) {
+                    Files.delete(file);
+                }
+            }
+        }
+        Files.writeString(log, "{\"id\":\"task-3\",\"no", StandardOpenOption.APPEND);
+        NoteStore reopened = new NoteStore(notesDir);
+        assertEquals("첫 메모", reopened.loadNotes("task-1"));
+        assertEquals("둘째 메모", reopened.loadNotes("task-2"));
+        assertEquals("", reopened.loadNotes("task-3"), "잘린 레코드는 무시");
+        assertFalse(Files.exists(log), "복구 후 로그 정리");
+
+        // 목록에서 빠진 과제의 메모는 로그로 되살아나지 않음
+        reopened.saveAll(Map.of("task-1", "수정된 메모"));
+        reopened.retainOnly(Set.of("task-2"));
+        assertEquals("", new NoteStore(notesDir).loadNotes("task-1"));
+    }
+
+    @Test
+    void testNoteStore_ReadsDoNotWaitForSave() throws Exception {
+        NoteStore store = new NoteStore(tempDir.resolve("notes"));
+        store.saveAll(Map.of("task-1", "메모"));
+
+        // 저장이 진행 중(저장 잠금을 잡은 상태)이어도 읽기는 기다리지 않아야 함
+        String[] read = new String[1];
+        Thread reader = new Thread(() -> read[0] = store.loadNotes("task-1"));
+        synchronized (store) {
+            reader.start();
+            reader.join(2000);
+        }
+        assertEquals("메모", read[0], "저장 중에도 메모를 읽을 수 있어야 합니다");
+    }
+
+    @Test
+    void testShardedBackend_RoundTrip() {
+        assertRoundTrip(StorageBackends.create(StorageBackends.SHARDED, tempDir));
+    }
+
+    @Test
+    void testShardedBackend_WritesOnlyDirtyShards() throws Exception {
+        StorageBackend backend = StorageBackends.create(StorageBackends.SHARDED, tempDir);
+        List<Task> tasks = sampleTasks();
+        Task june = new Task("기말고사", LocalDate.of(2024, 6, 20), Priority.HIGH);
+        backend.saveTasks(Arrays.asList(tasks.get(0), tasks.get(1), june));
+
+        Path mayShard = tempDir.resolve("shards").resolve("2024-05.json");
+        Path juneShard = tempDir.resolve("shards").resolve("2024-06.json");
+        assertTrue(Files.exists(mayShard), "5월 파일이 있어야 합니다");
+        assertTrue(Files.exists(juneShard), "6월 파일이 있어야 합니다");
+
+        // 개별 변경은 저널에만 기록하고 월 파일은 다시 쓰지 않음
+        String mayBefore = Files.readString(mayShard);
+        Task updated = tasks.get(0).copy();
+        updated.setCompleted(true);
+        backend.apply(Arrays.asList(TaskMutation.update(updated)));
+        assertEquals(mayBefore, Files.readString(mayShard), "개별 변경은 저널에 기록해야 합니다");
+        assertTrue(Files.exists(tempDir.resolve("shards").resolve("tasks.journal")));
+
+        // 6월 파일을 지운 뒤 5월 과제만 바꿔 전체 저장하면 6월 파일은 다시 기록되지 않아야 함
+        Files.delete(juneShard);
+        backend.saveTasks(Arrays.asList(updated, tasks.get(1), june));
+        assertFalse(Files.exists(juneShard), "변경되지 않은 월 파일은 기록하지 않아야 합니다");
+        assertNotEquals(mayBefore, Files.readString(mayShard), "바뀐 월 파일은 기록해야 합니다");
+
+        // 월이 바뀌면 새 월 파일 기록
+        Task moved = tasks.get(1).copy();
+        moved.setDueDate(LocalDate.of(2024, 6, 1));
+        backend.saveTasks(Arrays.asList(updated, moved, june));
+        assertTrue(Files.exists(juneShard), "새 월 파일이 기록되어야 합니다");
+    }
+
+    @Test
+    void testShardedBackend_ClearedStoreStaysEmpty() {
+        // 샘플 데이터로 초기화된 저장소
+        StorageBackend backend = StorageBackends.create(StorageBackends.SHARDED, tempDir);
+        assertEquals(4, backend.loadTasks().size(), "처음에는 샘플 데이터를 만들어야 합니다");
+        backend.saveTasks(new ArrayList<>());
+
+        List<Task> reloaded = StorageBackends.create(StorageBackends.SHARDED, tempDir).loadTasks();
+        assertTrue(reloaded.isEmpty(), "비운 저장소를 다시 열어도 샘플을 만들지 않아야 합니다");
+    }
+
+    @Test
+    void testShardedBackend_LegacyJsonMigratedOnce() throws Exception {
+        StorageBackends.create(StorageBackends.JSON, tempDir).saveTasks(sampleTasks());
+
+        StorageBackend backend = StorageBackends.create(StorageBackends.SHARDED, tempDir);
+        assertEquals(2, backend.loadTasks().size(), "tasks.json을 옮겨야 합니다");
+        assertFalse(Files.exists(tempDir.resolve("tasks.json")), "옮긴 tasks.json은 이름을 바꿔야 합니다");
+        backend.saveTasks(new ArrayList<>());
+
+        List<Task> reloaded = StorageBackends.create(StorageBackends.SHARDED, tempDir).loadTasks();
+        assertTrue(reloaded.isEmpty(), "비운 뒤 tasks.json을 다시 옮기지 않아야 합니다");
+    }
+
+    @Test
+    void testShardedBackend_LoadRange() {
+        StorageBackend backend = StorageBackends.create(StorageBackends.SHARDED, tempDir);
+        Task june = new Task("기말고사", LocalDate.of(2024, 6, 20), Priority.HIGH);
+        List<Task> all = new ArrayList<>(sampleTasks());
+        all.add(june);
+        backend.saveTasks(all);
+
+        StorageBackend reopened = StorageBackends.create(StorageBackends.SHARDED, tempDir);
+        List<Task> loaded = new ArrayList<>();
+        int count = reopened.loadTasks(LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 30), 10, loaded::addAll);
+        assertEquals(1, count);
+        assertEquals(june.getId(), loaded.get(0).getId(), "범위 안의 과제만 로드해야 합니다");
+
+        // 저널로 6월로 옮긴 과제도 범위 로드에 포함
+        Task moved = all.get(0).copy();
+        moved.setDueDate(LocalDate.of(2024, 6, 2));
+        reopened.apply(Arrays.asList(TaskMutation.update(moved)));
+        List<Task> afterMove = new ArrayList<>();
+        StorageBackends.create(StorageBackends.SHARDED, tempDir)
+                .loadTasks(LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 30), 10, afterMove::addAll);
+        assertEquals(2, afterMove.size(), "저널의 변경이 반영되어야 합니다");
+    }
+
+    @Test
+    void testJournal_TornTailIsTruncatedBeforeAppend() throws Exception {
+        StorageBackend backend = StorageBackends.create(StorageBackends.JSON, tempDir);
+        backend.saveTasks(sampleTasks());
+        Task first = new Task("영어 단어", LocalDate.of(2024, 5, 7), Priority.MEDIUM);
+        backend.apply(Arrays.asList(TaskMutation.add(first)));
+
+        // 기록 도중 중단된 레코드 (줄바꿈 없이 잘림)
+        Path journal = tempDir.resolve("tasks.journal");
+        Files.writeString(journal, "{\"op\":\"ADD\",\"id\":\"x\",\"task\":{\"id\"", StandardOpenOption.APPEND);
+
+        // 다시 열어 로드한 뒤 추가한 변경은 잘린 줄에 이어 붙지 않아야 함
+        StorageBackend reopened = StorageBackends.create(StorageBackends.JSON, tempDir);
+        assertEquals(3, reopened.loadTasks().size(), "잘린 레코드 이전까지 반영해야 합니다");
+        Task second = new Task("물리 실험", LocalDate.of(2024, 5, 9), Priority.LOW);
+        Task third = new Task("화학 보고서", LocalDate.of(2024, 5, 10), Priority.LOW);
+        reopened.apply(Arrays.asList(TaskMutation.add(second)));
+        reopened.apply(Arrays.asList(TaskMutation.add(third)));
+
+        List<Task> loaded = StorageBackends.create(StorageBackends.JSON, tempDir).loadTasks();
+        assertEquals(5, loaded.size(), "복구 후 추가한 레코드가 모두 반영되어야 합니다");
+        assertEquals(third.getId(), loaded.get(4).getId());
+    }
+
+    @Test
+    void testJournal_CorruptMiddleLineIsSkipped() throws Exception {
+        StorageBackend backend = StorageBackends.create(StorageBackends.JSON, tempDir);
+        backend.saveTasks(sampleTasks());
+
+        // 중간에 손상된 줄이 있어도 뒤의 정상 레코드는 버리지 않아야 함
+        Path journal = tempDir.resolve("tasks.journal");
+        Files.writeString(journal, "{\"op\":\"ADD\",\"id\n", StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        Task added = new Task("영어 단어", LocalDate.of(2024, 5, 7), Priority.MEDIUM);
+        backend.apply(Arrays.asList(TaskMutation.add(added)));
+        long size = Files.size(journal);
+
+        StorageBackend reopened = StorageBackends.create(StorageBackends.JSON, tempDir);
+        List<Task> loaded = reopened.loadTasks();
+        assertEquals(3, loaded.size(), "손상된 줄 뒤의 레코드도 반영해야 합니다");
+        assertEquals(added.getId(), loaded.get(2).getId());
+        assertEquals(size, Files.size(journal), "중간의 손상된 줄로 저널을 잘라내지 않아야 합니다");
+        assertTrue(reopened.isCompactionDue(), "손상된 저널은 스냅샷으로 정리해야 합니다");
+    }
+
+    @Test
+    void testBackends_DeleteStaleTempFilesOnOpen() throws Exception {
+        StorageBackends.create(StorageBackends.JSON, tempDir).saveTasks(sampleTasks());
+        StorageBackends.create(StorageBackends.SHARDED, tempDir).saveTasks(sampleTasks());
+
+        // 임시 파일에 기록한 뒤 이름을 바꾸기 전에 종료된 경우
+        Path snapshotTemp = Files.writeString(tempDir.resolve("tasks.json123.tmp"), "[");
+        Path shardTemp = Files.writeString(tempDir.resolve("shards").resolve("2024-05.json456.tmp"), "[");
+        Path noteTemp = Files.writeString(tempDir.resolve("notes").resolve("task-1.txt789.tmp"), "메모");
+        Path otherTemp = Files.writeString(tempDir.resolve("other.tmp"), "");
+
+        assertEquals(2, StorageBackends.create(StorageBackends.JSON, tempDir).loadTasks().size());
+        StorageBackends.create(StorageBackends.SHARDED, tempDir);
+        assertFalse(Files.exists(snapshotTemp), "스냅샷 임시 파일은 삭제해야 합니다");
+        assertFalse(Files.exists(shardTemp), "월 파일 임시 파일은 삭제해야 합니다");
+        assertFalse(Files.exists(noteTemp), "메모 임시 파일은 삭제해야 합니다");
+        assertTrue(Files.exists(otherTemp), "저장 대상이 아닌 파일은 그대로 둬야 합니다");
+    }
+
+    @Test
+    void testInMemoryBackend_RoundTrip() {
+        assertRoundTrip(new InMemoryStorageBackend());
+    }
+
+    @Test
+    void testBackgroundSaver_RetriesFailedWrite() throws Exception {
+        // 처음 두 번은 기록에 실패하는 저장소
+        AtomicInteger failures = new AtomicInteger(2);
+        InMemoryStorageBackend backend = new InMemoryStorageBackend() {
+            @Override
+            public synchronized void apply(List<TaskMutation> mutations) {
+                if (failures.getAndDecrement() > 0) {
+                    throw new RuntimeException("디스크 오류");
+                }
+                super.apply(mutations);
+            }
+        };
+        BackgroundSaver saver = new BackgroundSaver(backend, 0, 10, 20);
+        saver.append(TaskMutation.add(sampleTasks().get(0)));
+
+        // 새 요청 없이도 재시도로 기록되어야 함
+        long deadline = System.currentTimeMillis() + 5000;
+        while (backend.size() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, backend.size(), "실패한 기록은 다시 시도해야 합니다");
+        assertTrue(failures.get() < 0, "두 번 실패한 뒤 기록되어야 합니다");
+        saver.shutdown();
+    }
+
+    @Test
+    void testJsonBackend_ReloadAfterRestart() {
+        StorageBackend backend = StorageBackends.create(StorageBackends.JSON, tempDir);
+        backend.saveTasks(sampleTasks());
+
+        // 새 인스턴스로 같은 디렉토리를 다시 로드
+        StorageBackend reopened = StorageBackends.create(StorageBackends.JSON, tempDir);
+        List<Task> loaded = reopened.loadTasks();
+        assertEquals(2, loaded.size());
+        assertTrue(loaded.get(1).isCompleted(), "완료 상태가 유지되어야 합니다");
+    }
+
+    @Test
+    void testJsonBackend_KeepsBackupGenerations() throws Exception {
+        StorageBackend backend = StorageBackends.create(StorageBackends.JSON, tempDir);
+        List<Task> tasks = sampleTasks();
+        backend.saveTasks(tasks.subList(0, 1));
+        backend.saveTasks(tasks);
+
+        Path file = tempDir.resolve("tasks.json");
+        assertTrue(Files.exists(tempDir.resolve("tasks.json.bak")), "이전 파일이 백업되어야 합니다");
+        try (var files = Files.list(tempDir)) {
+            assertTrue(files.noneMatch(p -> p.toString().endsWith(".tmp")), "임시 파일이 남지 않아야 합니다");
+        }
+
+        // 손상된 스냅샷은 백업에서 로드
+        Files.writeString(file, "[{\"id\":");
+        List<Task> loaded = StorageBackends.create(StorageBackends.JSON, tempDir).loadTasks();
+        assertEquals(1, loaded.size(), "백업 세대의 과제를 로드해야 합니다");
+        assertEquals(tasks.get(0).getId(), loaded.get(0).getId());
+    }
+
+    @Test
+    void testNotes_StoredSeparatelyAndLoadedLazily() throws Exception {
+        StorageBackend backend = StorageBackends.create(StorageBackends.JSON, tempDir);
+        backend.saveTasks(sampleTasks());
+
+        String snapshot = Files.readString(tempDir.resolve("tasks.json"));
+        assertFalse(snapshot.contains("메모"), "스냅샷에는 메모가 없어야 합니다");
+
+        Task loaded = StorageBackends.create(StorageBackends.JSON, tempDir).loadTasks().get(0);
+        assertFalse(loaded.isNotesLoaded(), "메모는 로드 시 읽지 않아야 합니다");
+        assertEquals("메모", loaded.getNotes(), "메모는 처음 접근할 때 읽어야 합니다");
+        assertTrue(loaded.isNotesLoaded());
+    }
+
+    @Test
+    void testNotes_LegacyInlineNotesAreMigrated() throws Exception {
+        Files.writeString(tempDir.resolve("tasks.json"),
+                "[{\"id\":\"a\",\"title\":\"이전 과제\",\"dueDate\":\"2024-05-01\","
+                        + "\"priority\":\"HIGH\",\"notes\":\"이전 메모\",\"tags\":[],\"completed\":false}]");
+
+        StorageBackend backend = StorageBackends.create(StorageBackends.JSON, tempDir);
+        List<Task> loaded = backend.loadTasks();
+        assertEquals("이전 메모", loaded.get(0).getNotes(), "기존 형식의 메모를 읽어야 합니다");
+        assertTrue(backend.isCompactionDue(), "메모를 옮기기 위해 전체 저장이 필요합니다");
+
+        backend.saveTasks(loaded);
+        Task reloaded = StorageBackends.create(StorageBackends.JSON, tempDir).loadTasks().get(0);
+        assertEquals("이전 메모", reloaded.getNotes(), "옮긴 메모가 유지되어야 합니다");
+    }
+
+    @Test
+    void testUnknownBackend() {
+        assertThrows(IllegalArgumentException.class,
+                () -> StorageBackends.create("xml", tempDir));
+    }
+}
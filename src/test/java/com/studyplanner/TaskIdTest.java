@@ -0,0 +1,63 @@
+package com.studyplanner;
+
+import com.studyplanner.model.Priority;
+import com.studyplanner.model.Task;
+import com.studyplanner.model.TaskId;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TaskId 테스트
+ */
+class TaskIdTest {
+
+    @Test
+    void testParse_UuidRoundTrip() {
+        UUID uuid = UUID.randomUUID();
+        TaskId id = TaskId.parse(uuid.toString());
+
+        assertFalse(id.isLegacy());
+        assertEquals(uuid.getMostSignificantBits(), id.getHigh());
+        assertEquals(uuid.getLeastSignificantBits(), id.getLow());
+        assertEquals(uuid.toString(), id.toString(), "문자열로 되돌리면 원래 값");
+        assertEquals(id, TaskId.of(id.getHigh(), id.getLow()));
+        assertEquals(id.hashCode(), TaskId.of(id.getHigh(), id.getLow()).hashCode());
+    }
+
+    @Test
+    void testParse_LegacyIdKeepsText() {
+        TaskId legacy = TaskId.parse("task-1");
+        TaskId upper = TaskId.parse("A1B2C3D4-0000-4000-8000-000000000000");
+
+        assertTrue(legacy.isLegacy());
+        assertEquals("task-1", legacy.toString());
+        assertEquals(legacy, TaskId.parse("task-1"));
+        assertNotEquals(legacy, TaskId.parse("task-2"));
+        assertEquals("A1B2C3D4-0000-4000-8000-000000000000", upper.toString(), "대문자 UUID도 원래 문자열 유지");
+    }
+
+    @Test
+    void testRandom_IsVersion4Uuid() {
+        TaskId id = TaskId.random();
+        UUID uuid = UUID.fromString(id.toString());
+
+        assertEquals(4, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertNotEquals(id, TaskId.random());
+    }
+
+    @Test
+    void testTask_StringAndTaskIdAgree() {
+        Task task = new Task("과제", LocalDate.now(), Priority.LOW);
+        Task loaded = new Task(task.getId(), "과제", LocalDate.now(), Priority.LOW, "",
+                Collections.emptyList(), false);
+
+        assertEquals(task.getTaskId(), loaded.getTaskId(), "저장 후 다시 읽어도 같은 id");
+        assertEquals(task.getTaskId(), task.copy().getTaskId());
+    }
+}
@@ -0,0 +1,107 @@
+package com.studyplanner;
+
+import com.studyplanner.model.Priority;
+import com.studyplanner.model.Task;
+import com.studyplanner.service.InMemoryStorageBackend;
+import com.studyplanner.service.TaskQuery;
+import com.studyplanner.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TaskQuery 파싱과 질의 실행 테스트
+ */
+class TaskQueryTest {
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+
+    private TaskService taskService;
+    private Task mathHigh;
+    private Task mathDone;
+    private Task english;
+
+    @BeforeEach
+    void setUp() {
+        taskService = new TaskService(new InMemoryStorageBackend());
+        taskService.getTasks().clear();
+
+        mathHigh = new Task("미적분 과제", LocalDate.of(2026, 10, 20), Priority.HIGH);
+        mathHigh.setTagsFromString("수학");
+        mathDone = new Task("확률 과제", LocalDate.of(2026, 11, 5), Priority.HIGH);
+        mathDone.setTagsFromString("수학, 통계");
+        mathDone.setCompleted(true);
+        english = new Task("영어 단어", LocalDate.of(2026, 10, 25), Priority.LOW);
+        taskService.addAll(List.of(mathHigh, mathDone, english));
+    }
+
+    @Test
+    void testParse() {
+        TaskQuery query = TaskQuery.parse("tag:수학 priority:high due<2026-11-01 -done 과제", TODAY);
+        List<TaskQuery.Term> terms = query.getTerms();
+        assertEquals(5, terms.size());
+        assertEquals(TaskQuery.Field.TAG, terms.get(0).getField());
+        assertEquals(Priority.HIGH, terms.get(1).getPriority());
+        assertEquals(LocalDate.of(2026, 10, 31), terms.get(2).getTo(), "due<는 전날까지");
+        assertEquals(LocalDate.MIN, terms.get(2).getFrom());
+        assertFalse(terms.get(3).isDone(), "-done은 미완료");
+        assertEquals(TaskQuery.Field.TEXT, terms.get(4).getField());
+        assertTrue(query.hasFieldTerms());
+    }
+
+    @Test
+    void testParse_InvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> TaskQuery.parse("due<2026-13-01", TODAY));
+        assertThrows(IllegalArgumentException.class, () -> TaskQuery.parse("priority:urgent", TODAY));
+        assertThrows(IllegalArgumentException.class, () -> TaskQuery.parse("due<", TODAY), "작성 중인 조건");
+        assertFalse(TaskQuery.parse("자바 과제", TODAY).hasFieldTerms(), "일반 검색어");
+        assertFalse(TaskQuery.parse("done", TODAY).hasFieldTerms(), "done만 쓰면 검색어");
+    }
+
+    @Test
+    void testParse_DateBounds() {
+        TaskQuery query = TaskQuery.parse("due>+999999999-12-31 due<-999999999-01-01", TODAY);
+        assertTrue(query.getTerms().get(0).getFrom().isAfter(query.getTerms().get(0).getTo()), "빈 범위");
+        assertTrue(query.getTerms().get(1).getFrom().isAfter(query.getTerms().get(1).getTo()), "빈 범위");
+        assertTrue(taskService.findTasks("due>+999999999-12-31").isEmpty());
+        assertEquals(LocalDate.of(2026, 10, 18), TaskQuery.parse("due:today", TODAY).getTerms().get(0).getFrom());
+    }
+
+    @Test
+    void testCombinedQuery() {
+        List<Task> result = taskService.findTasks("tag:수학 priority:HIGH due<2026-11-01 -done");
+        assertEquals(List.of(mathHigh), result);
+
+        assertEquals(2, taskService.findTasks("-tag:통계").size(), "부정 조건");
+        assertEquals(List.of(english), taskService.findTasks("priority:낮음"), "한글 우선순위");
+        assertEquals(List.of(mathDone), taskService.findTasks("is:done 확률"));
+        assertTrue(taskService.findTasks("done").isEmpty(), "done은 완료 조건이 아니라 검색어");
+        assertEquals(List.of(english), taskService.findTasks("id:" + english.getId()));
+    }
+
+    @Test
+    void testPlanner_PicksMostSelectiveIndex() {
+        assertEquals("id", taskService.explainQuery("id:" + english.getId() + " -done"));
+        assertEquals("due", taskService.explainQuery("due:2026-10-25 -done"));
+        assertEquals("tag", taskService.explainQuery("tag:통계 -priority:LOW"));
+        assertEquals("done", taskService.explainQuery("-done"), "미완료 조건도 색인 사용");
+        assertEquals("scan", taskService.explainQuery("-priority:LOW"), "부정 조건만 있으면 전체 검사");
+    }
+
+    @Test
+    void testFilterByQuery_TracksChanges() {
+        assertTrue(taskService.filterByQuery("tag:수학 -done"));
+        assertEquals(1, taskService.getFilteredTasks().size());
+
+        Task added = new Task("기하 과제", LocalDate.of(2026, 12, 1), Priority.MEDIUM);
+        added.setTagsFromString("수학");
+        taskService.addTask(added);
+        assertEquals(2, taskService.getFilteredTasks().size(), "새 과제도 조건으로 판정");
+
+        assertFalse(taskService.filterByQuery("due<2026-99-99"), "잘못된 질의");
+        assertEquals(2, taskService.getFilteredTasks().size(), "잘못된 질의는 필터를 바꾸지 않음");
+    }
+}
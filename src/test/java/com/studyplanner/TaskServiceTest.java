@@ -1,13 +1,41 @@
 package com.studyplanner;
 
 import com.studyplanner.model.Priority;
+import com.studyplanner.model.TagDictionary;
 import com.studyplanner.model.Task;
-import com.studyplanner.service.StorageService;
+import com.studyplanner.service.ClockService;
+import com.studyplanner.service.InMemoryStorageBackend;
+import com.studyplanner.service.StorageBackends;
+import com.studyplanner.service.TaskMutation;
 import com.studyplanner.service.TaskService;
+import com.studyplanner.service.TaskStatistics;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -16,12 +44,14 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 class TaskServiceTest {
 
+    @TempDir
+    Path tempDir;
+
     private TaskService taskService;
 
     @BeforeEach
     void setUp() {
-        StorageService storageService = new StorageService();
-        taskService = new TaskService(storageService);
+        taskService = new TaskService(new InMemoryStorageBackend());
         taskService.getTasks().clear(); // 테스트 시작 전 초기화
     }
 
@@ -185,4 +215,593 @@ class TaskServiceTest {
 
         assertEquals(1, taskService.getCompletedTaskCount(), "완료 과제 1개");
     }
+
+    @Test
+    void testTaskVersion_IncrementsOnChange() {
+        Task task = new Task("버전 테스트", LocalDate.now(), Priority.LOW);
+        long initial = task.getVersion();
+
+        task.setTitle("버전 테스트 (수정)");
+        task.addTag("태그");
+        task.addTag("태그"); // 중복 태그는 변경 아님
+
+        assertEquals(initial + 2, task.getVersion(), "실제 변경마다 버전 증가");
+    }
+
+    @Test
+    void testDirectPropertyChange_IsPersisted() {
+        InMemoryStorageBackend backend = new InMemoryStorageBackend();
+        TaskService service = new TaskService(backend);
+        service.getTasks().clear();
+
+        Task task = new Task("체크박스 과제", LocalDate.now(), Priority.MEDIUM);
+        service.addTask(task);
+
+        // 테이블 체크박스처럼 속성을 직접 수정
+        task.completedProperty().set(true);
+        service.flush();
+
+        Task stored = backend.loadTasks().get(0);
+        assertTrue(stored.isCompleted(), "직접 수정한 속성도 저장되어야 함");
+        assertTrue(service.drainChanges().isEmpty(), "저장된 변경은 다시 반환되지 않음");
+    }
+
+    @Test
+    void testFindTaskById_FollowsListChanges() {
+        Task task1 = new Task("과제 1", LocalDate.now(), Priority.LOW);
+        Task task2 = new Task("과제 2", LocalDate.now(), Priority.HIGH);
+        taskService.addTask(task1);
+
+        assertSame(task1, taskService.findTaskById(task1.getId()).orElse(null), "추가한 과제를 id로 찾음");
+
+        taskService.getTasks().setAll(task2);
+        assertFalse(taskService.findTaskById(task1.getId()).isPresent(), "setAll로 빠진 과제는 찾을 수 없음");
+        assertTrue(taskService.findTaskById(task2.getId()).isPresent(), "setAll로 들어온 과제를 찾음");
+
+        taskService.getTasks().clear();
+        assertFalse(taskService.findTaskById(task2.getId()).isPresent(), "clear 후에는 찾을 수 없음");
+    }
+
+    @Test
+    void testDeleteTask_ById() {
+        Task task = new Task("원본", LocalDate.now(), Priority.MEDIUM);
+        taskService.addTask(task);
+
+        // 같은 id를 가진 다른 객체(편집용 복사본)로 삭제
+        assertTrue(taskService.deleteTask(task.copy()), "id가 같으면 삭제됨");
+        assertEquals(0, taskService.getTotalTaskCount());
+        assertFalse(taskService.deleteTask(task), "이미 삭제된 과제는 실패");
+    }
+
+    @Test
+    void testDueDateIndex_FollowsDueDateChanges() {
+        LocalDate today = LocalDate.now();
+        Task task = new Task("마감일 변경", today.plusDays(3), Priority.MEDIUM);
+        taskService.addTask(task);
+
+        assertTrue(taskService.getTasksDueBetween(today, today.plusDays(7)).contains(task), "이번 주 과제로 조회됨");
+
+        task.setDueDate(today.plusDays(30));
+        assertTrue(taskService.getTasksDueBetween(today, today.plusDays(7)).isEmpty(), "변경된 마감일이 색인에 반영됨");
+        assertTrue(taskService.getDueDatesBetween(today, today.plusDays(31)).contains(today.plusDays(30)));
+    }
+
+    @Test
+    void testFilterByDate_UsesIndexAndTracksNewTasks() {
+        LocalDate date = LocalDate.now().plusDays(2);
+        taskService.addTask(new Task("해당 날짜", date, Priority.LOW));
+        taskService.addTask(new Task("다른 날짜", date.plusDays(1), Priority.LOW));
+
+        taskService.filterByDate(date);
+        assertEquals(1, taskService.getFilteredTasks().size(), "해당 날짜 과제만 표시");
+
+        // 필터 적용 중 추가된 과제도 조건에 맞으면 표시
+        taskService.addTask(new Task("새 과제", date, Priority.HIGH));
+        assertEquals(2, taskService.getFilteredTasks().size(), "새로 추가된 과제도 표시");
+    }
+
+    @Test
+    void testSearch_IndexFollowsChanges() {
+        Task task = new Task("Java 과제", LocalDate.now(), Priority.HIGH);
+        taskService.addTask(task);
+        taskService.addTask(new Task("영어 단어", LocalDate.now(), Priority.LOW));
+
+        taskService.search("jav");
+        assertEquals(1, taskService.getFilteredTasks().size(), "대소문자 구분 없이 검색");
+
+        // 검색 중 추가된 과제도 조건에 맞으면 표시
+        Task added = new Task("javascript", LocalDate.now(), Priority.LOW);
+        taskService.addTask(added);
+        assertEquals(2, taskService.getFilteredTasks().size(), "새 과제도 검색되어야 합니다");
+
+        // 제목이 바뀌면 색인도 갱신
+        task.setTitle("파이썬 과제");
+        taskService.search("jav");
+        assertEquals(1, taskService.getFilteredTasks().size(), "제목 변경이 반영되어야 합니다");
+        assertTrue(taskService.getFilteredTasks().contains(added));
+
+        // 제목과 태그에 걸쳐 있는 문자열은 일치하지 않음
+        task.setTagsFromString("과제");
+        taskService.search("과제과");
+        assertEquals(0, taskService.getFilteredTasks().size(), "필드를 넘는 일치는 없어야 합니다");
+    }
+
+    @Test
+    void testSearch_ChosungAndComposingSyllable() {
+        Task task = new Task("자바 과제 제출", LocalDate.now(), Priority.HIGH);
+        taskService.addTask(task);
+        taskService.addTask(new Task("수학 숙제", LocalDate.now(), Priority.LOW));
+
+        taskService.search("ㅈㅂ");
+        assertEquals(1, taskService.getFilteredTasks().size(), "초성으로 검색");
+        assertTrue(taskService.getFilteredTasks().contains(task));
+
+        taskService.search("자바 고");
+        assertEquals(1, taskService.getFilteredTasks().size(), "조합 중인 마지막 글자로 검색");
+        taskService.search("자ㅂ");
+        assertEquals(1, taskService.getFilteredTasks().size(), "마지막 글자의 초성만 입력");
+
+        taskService.search("ㅅㅈ");
+        assertEquals(1, taskService.getFilteredTasks().size(), "'수학 숙제'의 '숙제' 초성");
+        assertFalse(taskService.getFilteredTasks().contains(task));
+
+        // 글자 경계를 넘어 자모가 이어지는 경우는 일치하지 않음
+        taskService.addTask(new Task("가요 듣기", LocalDate.now(), Priority.LOW));
+        taskService.addTask(new Task("가고 싶은 곳", LocalDate.now(), Priority.LOW));
+        taskService.addTask(new Task("수하고 정리", LocalDate.now(), Priority.LOW));
+        taskService.search("강");
+        assertTrue(taskService.getFilteredTasks().isEmpty(), "'강'은 '가요'와 일치하지 않음");
+        taskService.search("각");
+        assertTrue(taskService.getFilteredTasks().isEmpty(), "'각'은 '가고'와 일치하지 않음");
+        taskService.search("수학");
+        assertEquals(1, taskService.getFilteredTasks().size(), "'수학'은 '수하고'와 일치하지 않음");
+        taskService.search("가");
+        assertEquals(2, taskService.getFilteredTasks().size(), "완성된 글자는 그대로 일치");
+    }
+
+    @Test
+    void testSearchInBackground_AppliesOnlyLatestQuery() throws Exception {
+        // UI 스레드 대신 큐에 받아 테스트 스레드에서 실행
+        BlockingQueue<Runnable> uiQueue = new LinkedBlockingQueue<>();
+        TaskService service = new TaskService(new InMemoryStorageBackend(), uiQueue::add);
+        Task java = new Task("자바 과제", LocalDate.now(), Priority.HIGH);
+        service.addTask(java);
+        service.addTask(new Task("자료구조", LocalDate.now(), Priority.LOW));
+
+        service.searchInBackground("자");
+        service.searchInBackground("자바");
+        // 앞선 검색이 이미 실행되었더라도 그 결과는 적용되지 않음
+        do {
+            Runnable apply = uiQueue.poll(5, TimeUnit.SECONDS);
+            assertNotNull(apply, "검색 결과가 전달되어야 합니다");
+            apply.run();
+        } while (service.getFilteredTasks().size() == 2);
+        assertEquals(1, service.getFilteredTasks().size(), "마지막 검색어의 결과만 적용");
+        assertTrue(service.getFilteredTasks().contains(java));
+
+        // 결과 적용 전에 다른 필터로 바꾸면 이전 검색 결과는 버림
+        service.searchInBackground("자료");
+        service.showAll();
+        Runnable stale = uiQueue.poll(AppConfig.SEARCH_DEBOUNCE_MILLIS * 3, TimeUnit.MILLISECONDS);
+        if (stale != null) {
+            stale.run();
+        }
+        assertEquals(2, service.getFilteredTasks().size(), "취소된 검색은 적용되지 않아야 합니다");
+
+        // 조건 질의도 입력 중에는 바로 적용하지 않고, 뒤이은 검색어가 있으면 그 결과만 적용
+        service.searchOrFilter("priority:LOW");
+        assertEquals(2, service.getFilteredTasks().size(), "조건 질의도 입력이 멈춘 뒤 적용");
+        service.searchOrFilter("자바");
+        do {
+            Runnable apply = uiQueue.poll(5, TimeUnit.SECONDS);
+            assertNotNull(apply, "검색 결과가 전달되어야 합니다");
+            apply.run();
+        } while (service.getFilteredTasks().size() == 2);
+        assertEquals(List.of(java), List.copyOf(service.getFilteredTasks()), "마지막 입력만 적용");
+
+        service.searchOrFilter("priority:LOW");
+        Runnable query = uiQueue.poll(5, TimeUnit.SECONDS);
+        assertNotNull(query, "조건 질의가 전달되어야 합니다");
+        query.run();
+        assertEquals(1, service.getFilteredTasks().size());
+        assertEquals(Priority.LOW, service.getFilteredTasks().get(0).getPriority());
+
+        // 작성 중인 잘못된 조건은 오류를 출력하지 않고 검색어로 취급
+        PrintStream err = System.err;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(captured, true, StandardCharsets.UTF_8));
+        try {
+            service.searchOrFilter("priority:HI");
+        } finally {
+            System.setErr(err);
+        }
+        assertEquals("", captured.toString(StandardCharsets.UTF_8));
+        Runnable partial = uiQueue.poll(5, TimeUnit.SECONDS);
+        assertNotNull(partial, "검색어 결과가 전달되어야 합니다");
+        partial.run();
+        assertTrue(service.getFilteredTasks().isEmpty());
+        service.close();
+    }
+
+    @Test
+    void testStatistics_FollowPropertyChanges() {
+        Task today = new Task("오늘 과제", LocalDate.now(), Priority.HIGH);
+        Task overdue = new Task("지난 과제", LocalDate.now().minusDays(1), Priority.LOW);
+        taskService.addTask(today);
+        taskService.addTask(overdue);
+
+        assertEquals(2, taskService.totalTaskCountProperty().get());
+        assertEquals(1, taskService.todayTaskCountProperty().get(), "오늘 마감 1개");
+        assertEquals(1, taskService.overdueTaskCountProperty().get(), "연체 1개");
+
+        // 완료/마감일 변경이 카운터에 반영
+        overdue.setCompleted(true);
+        assertEquals(0, taskService.overdueTaskCountProperty().get(), "완료된 과제는 연체가 아님");
+        assertEquals(1, taskService.completedTaskCountProperty().get());
+        assertEquals(0.5, taskService.completionRateProperty().get(), 0.001);
+        today.setDueDate(LocalDate.now().plusDays(3));
+        assertEquals(0, taskService.todayTaskCountProperty().get(), "마감일 변경 반영");
+
+        taskService.deleteTask(overdue);
+        assertEquals(0, taskService.completedTaskCountProperty().get(), "삭제 반영");
+        assertEquals(1, taskService.totalTaskCountProperty().get());
+    }
+
+    @Test
+    void testAddAll_SingleChangeEventAndAllOrNothing() {
+        int[] events = {0};
+        taskService.getTasks().addListener((ListChangeListener<Task>) change -> events[0]++);
+
+        List<Task> batch = Arrays.asList(
+                new Task("과제 1", LocalDate.now(), Priority.LOW),
+                new Task("과제 2", LocalDate.now(), Priority.LOW),
+                new Task("", LocalDate.now(), Priority.LOW));
+        assertFalse(taskService.addAll(batch), "유효하지 않은 과제가 있으면 실패");
+        assertEquals(0, taskService.getTotalTaskCount(), "아무것도 추가되지 않아야 합니다");
+
+        assertTrue(taskService.addAll(batch.subList(0, 2)));
+        assertEquals(2, taskService.getTotalTaskCount());
+        assertEquals(1, events[0], "목록 변경 이벤트는 한 번");
+    }
+
+    @Test
+    void testApplyBatch_MixedMutations() {
+        Task keep = new Task("유지", LocalDate.now(), Priority.LOW);
+        Task remove = new Task("삭제", LocalDate.now(), Priority.LOW);
+        taskService.addAll(Arrays.asList(keep, remove));
+
+        Task edited = keep.copy();
+        edited.setCompleted(true);
+        Task added = new Task("추가", LocalDate.now(), Priority.HIGH);
+        assertTrue(taskService.applyBatch(Arrays.asList(
+                TaskMutation.update(edited),
+                TaskMutation.delete(remove.getId()),
+                TaskMutation.add(added))));
+
+        assertEquals(2, taskService.getTotalTaskCount());
+        assertTrue(keep.isCompleted(), "수정 반영");
+        assertFalse(taskService.findTaskById(remove.getId()).isPresent(), "삭제 반영");
+        assertEquals(1, taskService.getCompletedTaskCount());
+
+        // 같은 과제를 두 번 변경하거나 없는 과제를 삭제하면 실패
+        assertFalse(taskService.applyBatch(Arrays.asList(TaskMutation.delete(remove.getId()))));
+        assertFalse(taskService.applyBatch(Arrays.asList(TaskMutation.update(edited), TaskMutation.delete(keep.getId()))));
+        assertEquals(2, taskService.getTotalTaskCount());
+
+        taskService.clearAll();
+        assertEquals(0, taskService.getTotalTaskCount());
+    }
+
+    /**
+     * 테스트에서 시간을 옮길 수 있는 시계
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(LocalDate date) {
+            this.instant = date.atStartOfDay(ZoneOffset.UTC).toInstant();
+        }
+
+        void advanceDays(int days) {
+            instant = instant.plus(Duration.ofDays(days));
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    @Test
+    void testLoadTasks_NearRangeFirstThenRemaining() throws Exception {
+        LocalDate today = LocalDate.of(2026, 3, 10);
+        Task near = new Task("이번 달 과제", today.plusDays(3), Priority.HIGH);
+        Task far = new Task("작년 과제", today.minusYears(1), Priority.LOW);
+        StorageBackends.create(StorageBackends.SHARDED, tempDir).saveTasks(Arrays.asList(near, far));
+
+        BlockingQueue<Runnable> uiQueue = new LinkedBlockingQueue<>();
+        TaskService service = new TaskService(StorageBackends.create(StorageBackends.SHARDED, tempDir),
+                uiQueue::add, new ClockService(new MutableClock(today)));
+        assertEquals(1, service.getTasks().size(), "가까운 범위만 먼저 로드");
+        assertEquals(near.getId(), service.getTasks().get(0).getId());
+
+        // 나머지를 받기 전의 전체 저장은 로드가 끝날 때까지 미룸
+        service.saveTasks();
+        service.flush();
+        Runnable apply;
+        while ((apply = uiQueue.poll(1, TimeUnit.SECONDS)) != null) {
+            apply.run();
+        }
+        assertEquals(2, service.getTasks().size(), "나머지 과제를 이어서 로드");
+        assertTrue(service.findTaskById(far.getId()).isPresent());
+
+        service.close();
+        assertEquals(2, StorageBackends.create(StorageBackends.SHARDED, tempDir).loadTasks().size(),
+                "먼저 로드한 범위만 저장되면 안 됨");
+    }
+
+    @Test
+    void testExportImport_Utf8RoundTrip() throws Exception {
+        Task task = new Task("한글 과제", LocalDate.now(), Priority.HIGH);
+        task.setTagsFromString("국어");
+        taskService.addTask(task);
+        Path file = tempDir.resolve("export.json");
+        taskService.exportTasks(file, true);
+        assertTrue(Files.readString(file, StandardCharsets.UTF_8).contains("한글 과제"), "UTF-8로 기록");
+
+        TaskService other = new TaskService(new InMemoryStorageBackend());
+        other.getTasks().clear();
+        assertEquals(1, other.importTasks(file));
+        assertEquals("한글 과제", other.getTasks().get(0).getTitle());
+        assertEquals(List.of("국어"), other.getTasks().get(0).getTags());
+        assertEquals(0, other.importTasks(file), "이미 있는 과제는 건너뜀");
+        other.close();
+    }
+
+    @Test
+    void testCompaction_CheckedOnWriterThread() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        AtomicInteger snapshots = new AtomicInteger();
+        InMemoryStorageBackend backend = new InMemoryStorageBackend() {
+            @Override
+            public boolean isCompactionDue() {
+                threads.add(Thread.currentThread().getName());
+                return true;
+            }
+
+            @Override
+            public synchronized void saveTasks(List<Task> tasks) {
+                snapshots.incrementAndGet();
+                super.saveTasks(tasks);
+            }
+        };
+        LocalDate today = LocalDate.of(2026, 3, 10);
+        TaskService service = new TaskService(backend, Runnable::run, new ClockService(new MutableClock(today)));
+
+        service.addTask(new Task("첫 과제", today, Priority.HIGH));
+        service.flush();
+        assertEquals(0, snapshots.get(), "첫 변경은 변경 기록으로 저장");
+        service.addTask(new Task("둘째 과제", today, Priority.LOW));
+        service.flush();
+        assertEquals(1, snapshots.get(), "쓰기 스레드가 확인한 압축 시점에 전체 저장");
+        assertEquals(Set.of("task-writer"), threads, "저장소는 쓰기 스레드에서만 확인");
+        service.close();
+    }
+
+    @Test
+    void testDateRollover_RefreshesFilterAndStatistics() {
+        LocalDate start = LocalDate.of(2026, 3, 10);
+        MutableClock fakeClock = new MutableClock(start);
+        ClockService clock = new ClockService(fakeClock);
+        TaskService service = new TaskService(new InMemoryStorageBackend(), Runnable::run, clock);
+        service.getTasks().clear();
+
+        service.addTask(new Task("내일 과제", start.plusDays(1), Priority.HIGH));
+        service.addTask(new Task("오늘 과제", start, Priority.LOW));
+        service.filterToday();
+        assertEquals(1, service.getFilteredTasks().size());
+        assertEquals(0, service.overdueTaskCountProperty().get());
+
+        // 시계를 읽기 전에는 캐시된 날짜 유지
+        fakeClock.advanceDays(1);
+        assertEquals(start, clock.today(), "날짜는 확인할 때만 바뀜");
+
+        assertTrue(clock.checkRollover(), "자정이 지나면 날짜 변경");
+        assertEquals(start.plusDays(1), clock.today());
+        assertEquals("내일 과제", service.getFilteredTasks().get(0).getTitle(), "오늘 필터가 새 날짜로 다시 적용");
+        assertEquals(1, service.todayTaskCountProperty().get());
+        assertEquals(1, service.overdueTaskCountProperty().get(), "어제 마감 과제는 연체");
+        assertFalse(clock.checkRollover(), "같은 날에는 변경 없음");
+        service.close();
+    }
+
+    @Test
+    void testMostUrgentTasks_FollowChanges() {
+        LocalDate today = LocalDate.now();
+        Task lowSoon = new Task("내일 낮음", today.plusDays(1), Priority.LOW);
+        Task highLater = new Task("모레 높음", today.plusDays(2), Priority.HIGH);
+        Task mediumFar = new Task("열흘 뒤", today.plusDays(10), Priority.MEDIUM);
+        taskService.addAll(Arrays.asList(mediumFar, lowSoon, highLater));
+
+        // 높은 우선순위는 마감을 이틀 앞당겨 봄
+        assertEquals(Arrays.asList(highLater, lowSoon), taskService.getMostUrgentTasks(2));
+
+        highLater.setCompleted(true);
+        assertEquals(Arrays.asList(lowSoon, mediumFar), taskService.getMostUrgentTasks(5), "완료 과제 제외");
+        assertEquals(Arrays.asList(lowSoon, mediumFar), taskService.getNextTasks(), "다음에 할 일 목록 갱신");
+
+        mediumFar.setDueDate(today);
+        assertEquals(mediumFar, taskService.getMostUrgentTasks(1).get(0), "마감일 변경 반영");
+    }
+
+    @Test
+    void testTags_SharedDictionaryAndReadOnlyView() {
+        Task first = new Task("과제 1", LocalDate.now(), Priority.LOW);
+        Task second = new Task("과제 2", LocalDate.now(), Priority.LOW);
+        first.setTagsFromString("Java, 시험");
+        second.setTagsFromString("시험");
+
+        assertSame(first.getTags().get(1), second.getTags().get(0), "같은 태그 문자열은 공유");
+        assertTrue(first.hasTag("java"), "대소문자 무시");
+        assertFalse(second.hasTag("java"));
+        assertThrows(UnsupportedOperationException.class, () -> first.getTags().add("수정"),
+                "태그 목록은 읽기 전용");
+
+        long version = first.getVersion();
+        first.setTags(Arrays.asList("Java", "시험"));
+        assertEquals(version, first.getVersion(), "같은 태그로 설정하면 변경 아님");
+        first.removeTag("Java");
+        assertEquals(Arrays.asList("시험"), first.getTags());
+
+        int size = TagDictionary.shared().size();
+        first.removeTag("없는 태그");
+        assertEquals(size, TagDictionary.shared().size(), "없는 태그를 지워도 사전에 등록하지 않음");
+        assertEquals(Arrays.asList("시험"), first.getTags());
+    }
+
+    @Test
+    void testTags_DictionaryResetOnClear() {
+        Task kept = new Task("목록 밖 과제", LocalDate.now(), Priority.LOW);
+        kept.setTagsFromString("Java, 시험");
+        Task listed = new Task("과제", LocalDate.now(), Priority.LOW);
+        listed.setTagsFromString("오래된 태그");
+        taskService.addTask(listed);
+
+        // 목록을 비우면 쌓인 태그를 버림
+        taskService.clearAll();
+        assertEquals(0, TagDictionary.shared().size(), "목록을 비우면 태그 사전도 비워야 합니다");
+
+        // 이전 사전의 과제는 태그를 그대로 유지하고 다시 추가하면 새 사전으로 색인됨
+        long version = kept.getVersion();
+        assertEquals(Arrays.asList("Java", "시험"), kept.getTags());
+        taskService.addTask(kept);
+        assertEquals(version, kept.getVersion(), "사전을 옮기는 것은 변경이 아님");
+        assertTrue(kept.hasTag("java"));
+        assertTrue(taskService.filterByQuery("tag:시험"));
+        assertEquals(List.of(kept), List.copyOf(taskService.getFilteredTasks()));
+        assertEquals(Map.of("java", 1, "시험", 1), taskService.getOpenTaskCountsByTag());
+        assertEquals(-1, TagDictionary.shared().find("오래된 태그"));
+    }
+
+    @Test
+    void testLazyProperties_TrackChangesBeforeAndAfterCreation() {
+        Task task = new Task("과제", LocalDate.now(), Priority.LOW);
+        taskService.addTask(task);
+
+        long version = task.getVersion();
+        task.setTitle("수정된 과제");
+        assertEquals(version + 1, task.getVersion(), "Property 없이 설정해도 변경 기록");
+        task.setTitle("수정된 과제");
+        assertEquals(version + 1, task.getVersion(), "같은 값이면 변경 아님");
+
+        // 나중에 만든 Property는 현재 값으로 시작하고, 바인딩으로 바꾼 값도 추적
+        assertEquals("수정된 과제", task.titleProperty().get());
+        task.completedProperty().set(true);
+        assertTrue(task.isCompleted());
+        assertEquals(version + 2, task.getVersion());
+        assertEquals(1, taskService.completedTaskCountProperty().get(), "통계에 반영");
+
+        task.setCompleted(false);
+        assertFalse(task.completedProperty().get(), "setter는 만들어진 Property에 반영");
+        assertEquals(version + 3, task.getVersion());
+    }
+
+    @Test
+    void testColumns_AggregatesFollowChanges() {
+        LocalDate today = LocalDate.now();
+        Task overdueHigh = new Task("어제 높음", today.minusDays(1), Priority.HIGH);
+        Task overdueLow = new Task("그제 낮음", today.minusDays(2), Priority.LOW);
+        Task dueToday = new Task("오늘", today, Priority.MEDIUM);
+        Task nextWeek = new Task("다음 주", today.plusDays(7), Priority.LOW);
+        overdueHigh.setTagsFromString("Java, 시험");
+        nextWeek.setTagsFromString("java");
+        taskService.addAll(Arrays.asList(overdueHigh, overdueLow, dueToday, nextWeek));
+
+        assertArrayEquals(new int[]{1, 0, 0, 0, 0, 0, 0, 1}, taskService.getLoadPerDay(today, 8));
+        assertEquals(1, (int) taskService.getOverdueCountsByPriority().get(Priority.HIGH));
+        assertEquals(1, (int) taskService.getOverdueCountsByPriority().get(Priority.LOW));
+        assertEquals(0, (int) taskService.getOverdueCountsByPriority().get(Priority.MEDIUM));
+        assertEquals(2, (int) taskService.getOpenTaskCountsByTag().get("java"), "대소문자 무시하고 묶음");
+        assertEquals(1, (int) taskService.getOpenTaskCountsByTag().get("시험"));
+
+        overdueLow.setCompleted(true);
+        dueToday.setCompleted(true);
+        double[] rates = taskService.getCompletionRateByWeek(today.minusDays(2), 2);
+        assertEquals(2.0 / 3, rates[0], 1e-9, "첫 주 3개 중 2개 완료");
+        assertEquals(0.0, rates[1], 1e-9);
+
+        assertEquals(0, (int) taskService.getOverdueCountsByPriority().get(Priority.LOW), "완료하면 연체 아님");
+
+        // 삭제된 행 자리로 마지막 행이 옮겨져도 집계 유지
+        taskService.deleteTask(overdueHigh);
+        assertArrayEquals(new int[]{0, 0, 0, 0, 0, 0, 0, 1}, taskService.getLoadPerDay(today, 8));
+        assertEquals(0, (int) taskService.getOverdueCountsByPriority().get(Priority.HIGH));
+        assertEquals(1, (int) taskService.getOpenTaskCountsByTag().get("java"));
+        assertNull(taskService.getOpenTaskCountsByTag().get("시험"));
+    }
+
+    @Test
+    void testColumns_ManyRowsSurviveRemoval() {
+        LocalDate today = LocalDate.now();
+        List<Task> many = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            many.add(new Task("과제 " + i, today.plusDays(i % 3), Priority.LOW));
+        }
+        taskService.addAll(many);
+        assertArrayEquals(new int[]{100, 100, 100}, taskService.getLoadPerDay(today, 3));
+
+        // 앞쪽 행을 지우면 뒤쪽 행이 옮겨지므로 남은 과제의 변경이 제 행에 반영되는지 확인
+        for (int i = 0; i < 150; i++) {
+            taskService.deleteTask(many.get(i));
+        }
+        for (int i = 150; i < 300; i += 3) {
+            many.get(i).setCompleted(true);
+        }
+        assertArrayEquals(new int[]{0, 50, 50}, taskService.getLoadPerDay(today, 3));
+    }
+
+    @Test
+    void testGroupStatistics_ByTagAndPriority() {
+        LocalDate today = LocalDate.now();
+        Task java = new Task("자바 과제", today.minusDays(1), Priority.HIGH);
+        Task both = new Task("자바 시험", today.plusDays(3), Priority.HIGH);
+        java.setTagsFromString("Java");
+        both.setTagsFromString("java, 시험");
+        taskService.addAll(Arrays.asList(java, both));
+
+        ObservableMap<String, TaskStatistics.Counts> tags = taskService.getTagStatistics();
+        assertEquals(2, tags.get("java").getTotal(), "대소문자 무시하고 묶음");
+        assertEquals(1, tags.get("java").getOverdue());
+        assertEquals(1, tags.get("시험").getTotal());
+        assertEquals(2, taskService.getPriorityStatistics().get(Priority.HIGH).getTotal());
+        assertNull(taskService.getPriorityStatistics().get(Priority.LOW), "과제가 없는 그룹은 없음");
+        assertEquals(1, taskService.getPriorityStatistics().get(Priority.HIGH).getOverdue());
+
+        long revision = taskService.groupStatisticsRevisionProperty().get();
+        java.setCompleted(true);
+        assertEquals(revision + 1, taskService.groupStatisticsRevisionProperty().get(),
+                "여러 그룹이 바뀌어도 한 번만 알림");
+        assertEquals(0.5, tags.get("java").getCompletionRate(), 1e-9);
+        assertEquals(0, tags.get("java").getOverdue(), "완료하면 연체 아님");
+
+        both.removeTag("시험");
+        both.setPriority(Priority.LOW);
+        assertNull(tags.get("시험"), "태그가 없어지면 그룹 제거");
+        assertEquals(1, taskService.getPriorityStatistics().get(Priority.LOW).getTotal());
+        assertEquals(1, taskService.getPriorityStatistics().get(Priority.HIGH).getCompleted());
+
+        taskService.deleteTask(java);
+        assertEquals(1, tags.get("java").getTotal());
+        assertNull(taskService.getPriorityStatistics().get(Priority.HIGH));
+    }
 }